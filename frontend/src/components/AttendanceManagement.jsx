@@ -18,6 +18,7 @@ import {
   Select,
   MenuItem,
   Autocomplete,
+  TextField,
   Table,
   TableBody,
   TableCell,
@@ -36,12 +37,16 @@ import {
   Event,
   Add,
 } from '@mui/icons-material';
-import { attendanceAPI, studentAPI, eventAPI } from '../services/api';
+import { attendanceAPI, eventAPI } from '../services/api';
+import usePagedList from '../hooks/usePagedList';
+import LoadMoreButton from './LoadMoreButton';
+import StudentPicker from './StudentPicker';
 
 const AttendanceManagement = () => {
-  const [attendances, setAttendances] = useState([]);
-  const [students, setStudents] = useState([]);
-  const [events, setEvents] = useState([]);
+  const attendances = usePagedList(attendanceAPI.getPage);
+  const events = usePagedList(eventAPI.getPage);
+  const [activeEvents, setActiveEvents] = useState([]);
+  const [presentCounts, setPresentCounts] = useState({});
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
   const [open, setOpen] = useState(false);
@@ -51,15 +56,26 @@ const AttendanceManagement = () => {
 
   useEffect(() => {
     fetchAttendances();
-    fetchStudents();
     fetchEvents();
+    fetchActiveEvents();
   }, []);
 
+  // Present counts come from the server for the events shown so far, not from the loaded records
+  useEffect(() => {
+    const missing = events.items.filter((event) => !(event.id in presentCounts));
+    if (missing.length === 0) {
+      return;
+    }
+    Promise.all(missing.map((event) => attendanceAPI.getCountByEventId(event.id)
+      .then((response) => [event.id, response.data.attendanceCount])))
+      .then((entries) => setPresentCounts((current) => ({ ...current, ...Object.fromEntries(entries) })))
+      .catch((err) => console.error('Error fetching attendance counts:', err));
+  }, [events.items, presentCounts]);
+
   const fetchAttendances = async () => {
     try {
       setLoading(true);
-      const response = await attendanceAPI.getAll();
-      setAttendances(response.data);
+      await attendances.reload();
       setError(null);
     } catch (err) {
       setError('Failed to fetch attendance records');
@@ -69,24 +85,30 @@ const AttendanceManagement = () => {
     }
   };
 
-  const fetchStudents = async () => {
+  const fetchEvents = async () => {
     try {
-      const response = await studentAPI.getAll();
-      setStudents(response.data);
+      await events.reload();
     } catch (err) {
-      console.error('Error fetching students:', err);
+      console.error('Error fetching events:', err);
     }
   };
 
-  const fetchEvents = async () => {
+  const fetchActiveEvents = async () => {
     try {
-      const response = await eventAPI.getAll();
-      setEvents(response.data);
+      const response = await eventAPI.getActive();
+      setActiveEvents(response.data);
     } catch (err) {
-      console.error('Error fetching events:', err);
+      console.error('Error fetching active events:', err);
     }
   };
 
+  const loadMore = (list, what) => {
+    list.loadMore().catch((err) => {
+      setError(`Failed to load more ${what}`);
+      console.error(`Error loading more ${what}:`, err);
+    });
+  };
+
   const handleMarkAttendance = async () => {
     if (!selectedStudent || !selectedEvent) {
       setError('Please select both student and event');
@@ -104,6 +126,7 @@ const AttendanceManagement = () => {
       setSelectedEvent(null);
       setIsPresent(true);
       fetchAttendances();
+      setPresentCounts({});
     } catch (err) {
       setError(err.response?.data?.error || 'Failed to mark attendance');
       console.error('Error marking attendance:', err);
@@ -120,18 +143,9 @@ const AttendanceManagement = () => {
     });
   };
 
-  const getEventAttendance = (eventId) => {
-    return attendances.filter(att => att.event?.id === eventId);
-  };
-
-  const getStudentAttendance = (studentId) => {
-    return attendances.filter(att => att.student?.id === studentId);
-  };
-
-  const getAttendanceStats = (eventId) => {
-    const eventAttendances = getEventAttendance(eventId);
-    const present = eventAttendances.filter(att => att.isPresent).length;
-    const total = eventAttendances.length;
+  const getAttendanceStats = (event) => {
+    const present = presentCounts[event.id] ?? 0;
+    const total = event.currentRegistrations;
     return { present, total, percentage: total > 0 ? (present / total * 100).toFixed(1) : 0 };
   };
 
@@ -182,7 +196,7 @@ const AttendanceManagement = () => {
                     </TableRow>
                   </TableHead>
                   <TableBody>
-                    {attendances.slice(0, 10).map((attendance) => (
+                    {attendances.items.map((attendance) => (
                       <TableRow key={attendance.id}>
                         <TableCell>
                           {attendance.student?.firstName} {attendance.student?.lastName}
@@ -201,6 +215,11 @@ const AttendanceManagement = () => {
                   </TableBody>
                 </Table>
               </TableContainer>
+              <LoadMoreButton
+                hasMore={attendances.hasMore}
+                loading={attendances.loadingMore}
+                onClick={() => loadMore(attendances, 'attendance records')}
+              />
             </CardContent>
           </Card>
         </Grid>
@@ -212,8 +231,8 @@ const AttendanceManagement = () => {
                 Event Attendance Summary
               </Typography>
               <Box sx={{ maxHeight: 400, overflow: 'auto' }}>
-                {events.map((event) => {
-                  const stats = getAttendanceStats(event.id);
+                {events.items.map((event) => {
+                  const stats = getAttendanceStats(event);
                   return (
                     <Box key={event.id} sx={{ mb: 2, p: 2, border: 1, borderColor: 'divider', borderRadius: 1 }}>
                       <Typography variant="subtitle1" gutterBottom>
@@ -240,6 +259,11 @@ const AttendanceManagement = () => {
                     </Box>
                   );
                 })}
+                <LoadMoreButton
+                  hasMore={events.hasMore}
+                  loading={events.loadingMore}
+                  onClick={() => loadMore(events, 'events')}
+                />
               </Box>
             </CardContent>
           </Card>
@@ -251,23 +275,14 @@ const AttendanceManagement = () => {
         <DialogContent>
           <Grid container spacing={2} sx={{ mt: 1 }}>
             <Grid item xs={12}>
-              <Autocomplete
-                options={students}
-                getOptionLabel={(option) => `${option.firstName} ${option.lastName} (${option.studentId})`}
+              <StudentPicker
                 value={selectedStudent}
                 onChange={(event, newValue) => setSelectedStudent(newValue)}
-                renderInput={(params) => (
-                  <TextField
-                    {...params}
-                    label="Select Student"
-                    required
-                  />
-                )}
               />
             </Grid>
             <Grid item xs={12}>
               <Autocomplete
-                options={events.filter(event => event.isActive)}
+                options={activeEvents}
                 getOptionLabel={(option) => option.name}
                 value={selectedEvent}
                 onChange={(event, newValue) => setSelectedEvent(newValue)}
@@ -9,6 +9,9 @@ import {
   Alert,
   Chip,
   Paper,
+  List,
+  ListItem,
+  ListItemText,
 } from '@mui/material';
 import {
   School,
@@ -19,31 +22,51 @@ import {
   Feedback,
   TrendingUp,
 } from '@mui/icons-material';
-import { reportsAPI } from '../services/api';
+import { dashboardAPI } from '../services/api';
+
+const activityLabels = {
+  REGISTRATION: 'registered for',
+  ATTENDANCE: 'attended',
+  ABSENCE: 'was marked absent from',
+  FEEDBACK: 'left feedback on',
+};
 
 const Dashboard = () => {
-  const [statistics, setStatistics] = useState(null);
+  const [summary, setSummary] = useState(null);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
 
   useEffect(() => {
-    fetchStatistics();
+    fetchSummary();
   }, []);
 
-  const fetchStatistics = async () => {
+  // One request for the whole page; the server caches the summary for a few seconds
+  const fetchSummary = async () => {
     try {
       setLoading(true);
-      const response = await reportsAPI.getStatistics();
-      setStatistics(response.data);
+      const response = await dashboardAPI.getSummary();
+      setSummary(response.data);
       setError(null);
     } catch (err) {
-      setError('Failed to fetch statistics');
-      console.error('Error fetching statistics:', err);
+      setError('Failed to fetch dashboard');
+      console.error('Error fetching dashboard:', err);
     } finally {
       setLoading(false);
     }
   };
 
+  const formatDate = (dateString) => {
+    return new Date(dateString).toLocaleDateString('en-US', {
+      year: 'numeric',
+      month: 'short',
+      day: 'numeric',
+      hour: '2-digit',
+      minute: '2-digit',
+    });
+  };
+
+  const statistics = summary?.statistics;
+
   const StatCard = ({ title, value, icon, color = 'primary' }) => (
     <Card sx={{ height: '100%' }}>
       <CardContent>
@@ -95,60 +118,80 @@ const Dashboard = () => {
         Welcome to College Event Management System
       </Typography>
 
-      {statistics && (
+      {summary && (
         <Grid container spacing={3}>
-          <Grid item xs={12} sm={6} md={3}>
-            <StatCard
-              title="Total Events"
-              value={statistics.totalEvents || 0}
-              icon={<Event />}
-              color="primary"
-            />
-          </Grid>
-          <Grid item xs={12} sm={6} md={3}>
-            <StatCard
-              title="Total Registrations"
-              value={statistics.totalRegistrations || 0}
-              icon={<Assignment />}
-              color="secondary"
-            />
-          </Grid>
-          <Grid item xs={12} sm={6} md={3}>
+          <Grid item xs={12} sm={6} md={4}>
             <StatCard
-              title="Total Attendance"
-              value={statistics.totalAttendances || 0}
-              icon={<CheckCircle />}
-              color="success"
+              title="Colleges"
+              value={summary.totalColleges || 0}
+              icon={<School />}
+              color="warning"
             />
           </Grid>
-          <Grid item xs={12} sm={6} md={3}>
+          <Grid item xs={12} sm={6} md={4}>
             <StatCard
-              title="Total Feedback"
-              value={statistics.totalFeedbacks || 0}
-              icon={<Feedback />}
-              color="info"
+              title="Students"
+              value={summary.totalStudents || 0}
+              icon={<People />}
+              color="error"
             />
           </Grid>
+          {statistics && (
+            <>
+              <Grid item xs={12} sm={6} md={4}>
+                <StatCard
+                  title="Total Events"
+                  value={statistics.totalEvents || 0}
+                  icon={<Event />}
+                  color="primary"
+                />
+              </Grid>
+              <Grid item xs={12} sm={6} md={4}>
+                <StatCard
+                  title="Total Registrations"
+                  value={statistics.totalRegistrations || 0}
+                  icon={<Assignment />}
+                  color="secondary"
+                />
+              </Grid>
+              <Grid item xs={12} sm={6} md={4}>
+                <StatCard
+                  title="Total Attendance"
+                  value={statistics.totalAttendances || 0}
+                  icon={<CheckCircle />}
+                  color="success"
+                />
+              </Grid>
+              <Grid item xs={12} sm={6} md={4}>
+                <StatCard
+                  title="Total Feedback"
+                  value={statistics.totalFeedbacks || 0}
+                  icon={<Feedback />}
+                  color="info"
+                />
+              </Grid>
 
-          <Grid item xs={12} md={6}>
-            <Card>
-              <CardContent>
-                <Typography variant="h6" gutterBottom>
-                  Attendance Rate
-                </Typography>
-                <Box sx={{ display: 'flex', alignItems: 'center', mt: 2 }}>
-                  <Typography variant="h3" component="div" sx={{ mr: 2 }}>
-                    {statistics.averageAttendanceRate?.toFixed(1) || 0}%
-                  </Typography>
-                  <Chip
-                    label="Overall"
-                    color="primary"
-                    variant="outlined"
-                  />
-                </Box>
-              </CardContent>
-            </Card>
-          </Grid>
+              <Grid item xs={12} md={6}>
+                <Card>
+                  <CardContent>
+                    <Typography variant="h6" gutterBottom>
+                      Attendance Rate
+                    </Typography>
+                    <Box sx={{ display: 'flex', alignItems: 'center', mt: 2 }}>
+                      <Typography variant="h3" component="div" sx={{ mr: 2 }}>
+                        {statistics.averageAttendanceRate?.toFixed(1) || 0}%
+                      </Typography>
+                      <Chip
+                        label="Overall"
+                        color="primary"
+                        variant="outlined"
+                      />
+                    </Box>
+                  </CardContent>
+                </Card>
+              </Grid>
+            </>
+          )}
 
           <Grid item xs={12} md={6}>
             <Card>
@@ -170,6 +213,81 @@ const Dashboard = () => {
             </Card>
           </Grid>
 
+          <Grid item xs={12} md={4}>
+            <Paper sx={{ p: 3, height: '100%' }}>
+              <Typography variant="h6" gutterBottom>
+                Upcoming Events
+              </Typography>
+              {summary.upcomingEvents.length === 0 ? (
+                <Typography variant="body2" color="text.secondary">
+                  No upcoming events
+                </Typography>
+              ) : (
+                <List dense>
+                  {summary.upcomingEvents.map((event) => (
+                    <ListItem key={event.id} disableGutters>
+                      <ListItemText
+                        primary={event.name}
+                        secondary={`${formatDate(event.eventDate)} · ${event.currentRegistrations}/${event.maxCapacity} registered`}
+                      />
+                    </ListItem>
+                  ))}
+                </List>
+              )}
+            </Paper>
+          </Grid>
+
+          {summary.topEvents && (
+            <Grid item xs={12} md={4}>
+              <Paper sx={{ p: 3, height: '100%' }}>
+                <Typography variant="h6" gutterBottom>
+                  Top Events
+                </Typography>
+                {summary.topEvents.length === 0 ? (
+                  <Typography variant="body2" color="text.secondary">
+                    No events yet
+                  </Typography>
+                ) : (
+                  <List dense>
+                    {summary.topEvents.map((event) => (
+                      <ListItem key={event.eventId} disableGutters>
+                        <ListItemText
+                          primary={event.eventName}
+                          secondary={`${event.registrationCount} registrations · ${event.attendanceCount} attended`}
+                        />
+                        <Chip label={event.popularityScore.toFixed(1)} size="small" color="primary" />
+                      </ListItem>
+                    ))}
+                  </List>
+                )}
+              </Paper>
+            </Grid>
+          )}
+
+          <Grid item xs={12} md={4}>
+            <Paper sx={{ p: 3, height: '100%' }}>
+              <Typography variant="h6" gutterBottom>
+                Recent Activity
+              </Typography>
+              {summary.recentActivity.length === 0 ? (
+                <Typography variant="body2" color="text.secondary">
+                  No activity yet
+                </Typography>
+              ) : (
+                <List dense>
+                  {summary.recentActivity.map((activity, index) => (
+                    <ListItem key={`${activity.type}-${index}`} disableGutters>
+                      <ListItemText
+                        primary={`${activity.student.firstName} ${activity.student.lastName} ${activityLabels[activity.type]} ${activity.event.name}`}
+                        secondary={formatDate(activity.timestamp)}
+                      />
+                    </ListItem>
+                  ))}
+                </List>
+              )}
+            </Paper>
+          </Grid>
+
           <Grid item xs={12}>
             <Paper sx={{ p: 3 }}>
               <Typography variant="h6" gutterBottom>
@@ -34,9 +34,11 @@ import {
   Schedule,
 } from '@mui/icons-material';
 import { eventAPI, collegeAPI } from '../services/api';
+import usePagedList from '../hooks/usePagedList';
+import LoadMoreButton from './LoadMoreButton';
 
 const EventManagement = () => {
-  const [events, setEvents] = useState([]);
+  const events = usePagedList(eventAPI.getPage);
   const [colleges, setColleges] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
@@ -62,18 +64,16 @@ const EventManagement = () => {
     fetchColleges();
   }, []);
 
-  const fetchEvents = async () => {
+  const fetchEvents = async (type = filterType) => {
     try {
       setLoading(true);
-      let response;
-      if (filterType === 'active') {
-        response = await eventAPI.getActive();
-      } else if (filterType === 'available') {
-        response = await eventAPI.getAvailable();
+      if (type === 'active') {
+        events.showOnly((await eventAPI.getActive()).data);
+      } else if (type === 'available') {
+        events.showOnly((await eventAPI.getAvailable()).data);
       } else {
-        response = await eventAPI.getAll();
+        await events.reload();
       }
-      setEvents(response.data);
       setError(null);
     } catch (err) {
       setError('Failed to fetch events');
@@ -188,7 +188,7 @@ const EventManagement = () => {
     try {
       setLoading(true);
       const response = await eventAPI.search(searchQuery);
-      setEvents(response.data);
+      events.showOnly(response.data);
     } catch (err) {
       setError('Failed to search events');
       console.error('Error searching events:', err);
@@ -207,7 +207,14 @@ const EventManagement = () => {
     });
   };
 
-  const filteredEvents = events.filter(event =>
+  const handleLoadMore = () => {
+    events.loadMore().catch((err) => {
+      setError('Failed to load more events');
+      console.error('Error loading more events:', err);
+    });
+  };
+
+  const filteredEvents = events.items.filter(event =>
     !searchQuery || 
     event.name.toLowerCase().includes(searchQuery.toLowerCase()) ||
     event.description.toLowerCase().includes(searchQuery.toLowerCase()) ||
@@ -255,7 +262,7 @@ const EventManagement = () => {
             label="Filter"
             onChange={(e) => {
               setFilterType(e.target.value);
-              fetchEvents();
+              fetchEvents(e.target.value);
             }}
           >
             <MenuItem value="all">All Events</MenuItem>
@@ -338,6 +345,8 @@ const EventManagement = () => {
         ))}
       </Grid>
 
+      <LoadMoreButton hasMore={events.hasMore} loading={events.loadingMore} onClick={handleLoadMore} />
+
       {filteredEvents.length === 0 && (
         <Box sx={{ textAlign: 'center', mt: 4 }}>
           <Typography variant="h6" color="text.secondary">
@@ -30,12 +30,16 @@ import {
   Delete,
   Star,
 } from '@mui/icons-material';
-import { feedbackAPI, studentAPI, eventAPI } from '../services/api';
+import { feedbackAPI, eventAPI } from '../services/api';
+import usePagedList from '../hooks/usePagedList';
+import LoadMoreButton from './LoadMoreButton';
+import StudentPicker from './StudentPicker';
 
 const FeedbackManagement = () => {
-  const [feedbacks, setFeedbacks] = useState([]);
-  const [students, setStudents] = useState([]);
-  const [events, setEvents] = useState([]);
+  const feedbacks = usePagedList(feedbackAPI.getPage);
+  const events = usePagedList(eventAPI.getPage);
+  const [activeEvents, setActiveEvents] = useState([]);
+  const [ratings, setRatings] = useState({});
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
   const [open, setOpen] = useState(false);
@@ -50,15 +54,31 @@ const FeedbackManagement = () => {
 
   useEffect(() => {
     fetchFeedbacks();
-    fetchStudents();
     fetchEvents();
+    fetchActiveEvents();
   }, []);
 
+  // Ratings come from the server for the events shown so far, not from the loaded feedback
+  useEffect(() => {
+    const missing = events.items.filter((event) => !(event.id in ratings));
+    if (missing.length === 0) {
+      return;
+    }
+    Promise.all(missing.map((event) => Promise.all([
+      feedbackAPI.getAverageRating(event.id),
+      feedbackAPI.getCount(event.id),
+    ]).then(([average, count]) => [event.id, {
+      average: (average.data.averageRating ?? 0).toFixed(1),
+      count: count.data.feedbackCount,
+    }])))
+      .then((entries) => setRatings((current) => ({ ...current, ...Object.fromEntries(entries) })))
+      .catch((err) => console.error('Error fetching ratings:', err));
+  }, [events.items, ratings]);
+
   const fetchFeedbacks = async () => {
     try {
       setLoading(true);
-      const response = await feedbackAPI.getAll();
-      setFeedbacks(response.data);
+      await feedbacks.reload();
       setError(null);
     } catch (err) {
       setError('Failed to fetch feedback');
@@ -68,30 +88,36 @@ const FeedbackManagement = () => {
     }
   };
 
-  const fetchStudents = async () => {
+  const fetchEvents = async () => {
     try {
-      const response = await studentAPI.getAll();
-      setStudents(response.data);
+      await events.reload();
     } catch (err) {
-      console.error('Error fetching students:', err);
+      console.error('Error fetching events:', err);
     }
   };
 
-  const fetchEvents = async () => {
+  const fetchActiveEvents = async () => {
     try {
-      const response = await eventAPI.getAll();
-      setEvents(response.data);
+      const response = await eventAPI.getActive();
+      setActiveEvents(response.data);
     } catch (err) {
-      console.error('Error fetching events:', err);
+      console.error('Error fetching active events:', err);
     }
   };
 
+  const loadMore = (list, what) => {
+    list.loadMore().catch((err) => {
+      setError(`Failed to load more ${what}`);
+      console.error(`Error loading more ${what}:`, err);
+    });
+  };
+
   const handleOpen = (feedback = null) => {
     if (feedback) {
       setEditingFeedback(feedback);
       setFormData({
-        student: students.find(s => s.id === feedback.student?.id) || null,
-        event: events.find(e => e.id === feedback.event?.id) || null,
+        student: feedback.student || null,
+        event: feedback.event || null,
         rating: feedback.rating,
         comment: feedback.comment,
       });
@@ -163,6 +189,7 @@ const FeedbackManagement = () => {
       }
       handleClose();
       fetchFeedbacks();
+      setRatings({});
     } catch (err) {
       setError(err.response?.data?.error || 'Failed to save feedback');
       console.error('Error saving feedback:', err);
@@ -174,6 +201,7 @@ const FeedbackManagement = () => {
       try {
         await feedbackAPI.delete(id);
         fetchFeedbacks();
+        setRatings({});
       } catch (err) {
         setError(err.response?.data?.error || 'Failed to delete feedback');
         console.error('Error deleting feedback:', err);
@@ -191,17 +219,6 @@ const FeedbackManagement = () => {
     });
   };
 
-  const getEventFeedbacks = (eventId) => {
-    return feedbacks.filter(fb => fb.event?.id === eventId);
-  };
-
-  const getAverageRating = (eventId) => {
-    const eventFeedbacks = getEventFeedbacks(eventId);
-    if (eventFeedbacks.length === 0) return 0;
-    const sum = eventFeedbacks.reduce((acc, fb) => acc + fb.rating, 0);
-    return (sum / eventFeedbacks.length).toFixed(1);
-  };
-
   if (loading) {
     return (
       <Box sx={{ display: 'flex', justifyContent: 'center', mt: 4 }}>
@@ -239,7 +256,7 @@ const FeedbackManagement = () => {
                 Recent Feedback
               </Typography>
               <Box sx={{ maxHeight: 400, overflow: 'auto' }}>
-                {feedbacks.slice(0, 10).map((feedback) => (
+                {feedbacks.items.map((feedback) => (
                   <Card key={feedback.id} sx={{ mb: 2, p: 2 }}>
                     <Box sx={{ display: 'flex', justifyContent: 'space-between', alignItems: 'flex-start', mb: 1 }}>
                       <Typography variant="subtitle1">
@@ -278,6 +295,11 @@ const FeedbackManagement = () => {
                     </Typography>
                   </Card>
                 ))}
+                <LoadMoreButton
+                  hasMore={feedbacks.hasMore}
+                  loading={feedbacks.loadingMore}
+                  onClick={() => loadMore(feedbacks, 'feedback')}
+                />
               </Box>
             </CardContent>
           </Card>
@@ -290,9 +312,8 @@ const FeedbackManagement = () => {
                 Event Feedback Summary
               </Typography>
               <Box sx={{ maxHeight: 400, overflow: 'auto' }}>
-                {events.map((event) => {
-                  const eventFeedbacks = getEventFeedbacks(event.id);
-                  const averageRating = getAverageRating(event.id);
+                {events.items.map((event) => {
+                  const rating = ratings[event.id] ?? { average: '0.0', count: 0 };
                   return (
                     <Box key={event.id} sx={{ mb: 2, p: 2, border: 1, borderColor: 'divider', borderRadius: 1 }}>
                       <Typography variant="subtitle1" gutterBottom>
@@ -301,7 +322,7 @@ const FeedbackManagement = () => {
                       <Box sx={{ display: 'flex', alignItems: 'center', gap: 1, mb: 1 }}>
                         <Star sx={{ fontSize: 16, color: 'text.secondary' }} />
                         <Typography variant="body2" color="text.secondary">
-                          {averageRating}/5 ({eventFeedbacks.length} reviews)
+                          {rating.average}/5 ({rating.count} reviews)
                         </Typography>
                       </Box>
                       <Box sx={{ display: 'flex', gap: 1, flexWrap: 'wrap' }}>
@@ -319,6 +340,11 @@ const FeedbackManagement = () => {
                     </Box>
                   );
                 })}
+                <LoadMoreButton
+                  hasMore={events.hasMore}
+                  loading={events.loadingMore}
+                  onClick={() => loadMore(events, 'events')}
+                />
               </Box>
             </CardContent>
           </Card>
@@ -332,24 +358,16 @@ const FeedbackManagement = () => {
         <DialogContent>
           <Grid container spacing={2} sx={{ mt: 1 }}>
             <Grid item xs={12}>
-              <Autocomplete
-                options={students}
-                getOptionLabel={(option) => `${option.firstName} ${option.lastName} (${option.studentId})`}
+              <StudentPicker
                 value={formData.student}
                 onChange={handleStudentChange}
-                renderInput={(params) => (
-                  <TextField
-                    {...params}
-                    label="Select Student"
-                    required
-                  />
-                )}
               />
             </Grid>
             <Grid item xs={12}>
               <Autocomplete
-                options={events.filter(event => event.isActive)}
+                options={activeEvents}
                 getOptionLabel={(option) => option.name}
+                isOptionEqualToValue={(option, selected) => option.id === selected.id}
                 value={formData.event}
                 onChange={handleEventChange}
                 renderInput={(params) => (
@@ -0,0 +1,18 @@
+import React from 'react';
+import { Box, Button } from '@mui/material';
+
+const LoadMoreButton = ({ hasMore, loading, onClick }) => {
+  if (!hasMore) {
+    return null;
+  }
+
+  return (
+    <Box sx={{ display: 'flex', justifyContent: 'center', mt: 2 }}>
+      <Button variant="outlined" onClick={onClick} disabled={loading}>
+        {loading ? 'Loading...' : 'Load more'}
+      </Button>
+    </Box>
+  );
+};
+
+export default LoadMoreButton;
@@ -19,6 +19,7 @@ import {
   Select,
   MenuItem,
   Autocomplete,
+  TextField,
   Table,
   TableBody,
   TableCell,
@@ -35,12 +36,15 @@ import {
   People,
   Event,
 } from '@mui/icons-material';
-import { registrationAPI, studentAPI, eventAPI } from '../services/api';
+import { registrationAPI, eventAPI } from '../services/api';
+import usePagedList from '../hooks/usePagedList';
+import LoadMoreButton from './LoadMoreButton';
+import StudentPicker from './StudentPicker';
 
 const RegistrationManagement = () => {
-  const [registrations, setRegistrations] = useState([]);
-  const [students, setStudents] = useState([]);
-  const [events, setEvents] = useState([]);
+  const registrations = usePagedList(registrationAPI.getPage);
+  const events = usePagedList(eventAPI.getPage);
+  const [activeEvents, setActiveEvents] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
   const [open, setOpen] = useState(false);
@@ -49,15 +53,14 @@ const RegistrationManagement = () => {
 
   useEffect(() => {
     fetchRegistrations();
-    fetchStudents();
     fetchEvents();
+    fetchActiveEvents();
   }, []);
 
   const fetchRegistrations = async () => {
     try {
       setLoading(true);
-      const response = await registrationAPI.getAll();
-      setRegistrations(response.data);
+      await registrations.reload();
       setError(null);
     } catch (err) {
       setError('Failed to fetch registrations');
@@ -67,24 +70,30 @@ const RegistrationManagement = () => {
     }
   };
 
-  const fetchStudents = async () => {
+  const fetchEvents = async () => {
     try {
-      const response = await studentAPI.getAll();
-      setStudents(response.data);
+      await events.reload();
     } catch (err) {
-      console.error('Error fetching students:', err);
+      console.error('Error fetching events:', err);
     }
   };
 
-  const fetchEvents = async () => {
+  const fetchActiveEvents = async () => {
     try {
-      const response = await eventAPI.getAll();
-      setEvents(response.data);
+      const response = await eventAPI.getActive();
+      setActiveEvents(response.data);
     } catch (err) {
-      console.error('Error fetching events:', err);
+      console.error('Error fetching active events:', err);
     }
   };
 
+  const loadMore = (list, what) => {
+    list.loadMore().catch((err) => {
+      setError(`Failed to load more ${what}`);
+      console.error(`Error loading more ${what}:`, err);
+    });
+  };
+
   const handleRegister = async () => {
     if (!selectedStudent || !selectedEvent) {
       setError('Please select both student and event');
@@ -97,6 +106,7 @@ const RegistrationManagement = () => {
       setSelectedStudent(null);
       setSelectedEvent(null);
       fetchRegistrations();
+      fetchEvents();
     } catch (err) {
       setError(err.response?.data?.error || 'Failed to register student');
       console.error('Error registering student:', err);
@@ -108,6 +118,7 @@ const RegistrationManagement = () => {
       try {
         await registrationAPI.cancel(studentId, eventId);
         fetchRegistrations();
+        fetchEvents();
       } catch (err) {
         setError(err.response?.data?.error || 'Failed to cancel registration');
         console.error('Error canceling registration:', err);
@@ -125,14 +136,6 @@ const RegistrationManagement = () => {
     });
   };
 
-  const getEventRegistrations = (eventId) => {
-    return registrations.filter(reg => reg.event?.id === eventId);
-  };
-
-  const getStudentRegistrations = (studentId) => {
-    return registrations.filter(reg => reg.student?.id === studentId);
-  };
-
   if (loading) {
     return (
       <Box sx={{ display: 'flex', justifyContent: 'center', mt: 4 }}>
@@ -181,7 +184,7 @@ const RegistrationManagement = () => {
                     </TableRow>
                   </TableHead>
                   <TableBody>
-                    {registrations.slice(0, 10).map((registration) => (
+                    {registrations.items.map((registration) => (
                       <TableRow key={registration.id}>
                         <TableCell>
                           {registration.student?.firstName} {registration.student?.lastName}
@@ -212,6 +215,11 @@ const RegistrationManagement = () => {
                   </TableBody>
                 </Table>
               </TableContainer>
+              <LoadMoreButton
+                hasMore={registrations.hasMore}
+                loading={registrations.loadingMore}
+                onClick={() => loadMore(registrations, 'registrations')}
+              />
             </CardContent>
           </Card>
         </Grid>
@@ -223,34 +231,36 @@ const RegistrationManagement = () => {
                 Event Registration Summary
               </Typography>
               <Box sx={{ maxHeight: 400, overflow: 'auto' }}>
-                {events.map((event) => {
-                  const eventRegistrations = getEventRegistrations(event.id);
-                  return (
-                    <Box key={event.id} sx={{ mb: 2, p: 2, border: 1, borderColor: 'divider', borderRadius: 1 }}>
-                      <Typography variant="subtitle1" gutterBottom>
-                        {event.name}
+                {events.items.map((event) => (
+                  <Box key={event.id} sx={{ mb: 2, p: 2, border: 1, borderColor: 'divider', borderRadius: 1 }}>
+                    <Typography variant="subtitle1" gutterBottom>
+                      {event.name}
+                    </Typography>
+                    <Box sx={{ display: 'flex', alignItems: 'center', gap: 1, mb: 1 }}>
+                      <People sx={{ fontSize: 16, color: 'text.secondary' }} />
+                      <Typography variant="body2" color="text.secondary">
+                        {event.currentRegistrations} / {event.maxCapacity} registered
                       </Typography>
-                      <Box sx={{ display: 'flex', alignItems: 'center', gap: 1, mb: 1 }}>
-                        <People sx={{ fontSize: 16, color: 'text.secondary' }} />
-                        <Typography variant="body2" color="text.secondary">
-                          {eventRegistrations.length} / {event.maxCapacity} registered
-                        </Typography>
-                      </Box>
-                      <Box sx={{ display: 'flex', gap: 1, flexWrap: 'wrap' }}>
-                        <Chip
-                          label={event.eventType}
-                          size="small"
-                          variant="outlined"
-                        />
-                        <Chip
-                          label={event.isActive ? 'Active' : 'Inactive'}
-                          color={event.isActive ? 'success' : 'default'}
-                          size="small"
-                        />
-                      </Box>
                     </Box>
-                  );
-                })}
+                    <Box sx={{ display: 'flex', gap: 1, flexWrap: 'wrap' }}>
+                      <Chip
+                        label={event.eventType}
+                        size="small"
+                        variant="outlined"
+                      />
+                      <Chip
+                        label={event.isActive ? 'Active' : 'Inactive'}
+                        color={event.isActive ? 'success' : 'default'}
+                        size="small"
+                      />
+                    </Box>
+                  </Box>
+                ))}
+                <LoadMoreButton
+                  hasMore={events.hasMore}
+                  loading={events.loadingMore}
+                  onClick={() => loadMore(events, 'events')}
+                />
               </Box>
             </CardContent>
           </Card>
@@ -262,23 +272,14 @@ const RegistrationManagement = () => {
         <DialogContent>
           <Grid container spacing={2} sx={{ mt: 1 }}>
             <Grid item xs={12}>
-              <Autocomplete
-                options={students}
-                getOptionLabel={(option) => `${option.firstName} ${option.lastName} (${option.studentId})`}
+              <StudentPicker
                 value={selectedStudent}
                 onChange={(event, newValue) => setSelectedStudent(newValue)}
-                renderInput={(params) => (
-                  <TextField
-                    {...params}
-                    label="Select Student"
-                    required
-                  />
-                )}
               />
             </Grid>
             <Grid item xs={12}>
               <Autocomplete
-                options={events.filter(event => event.isActive)}
+                options={activeEvents}
                 getOptionLabel={(option) => option.name}
                 value={selectedEvent}
                 onChange={(event, newValue) => setSelectedEvent(newValue)}
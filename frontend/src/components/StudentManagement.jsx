@@ -29,9 +29,11 @@ import {
   Search,
 } from '@mui/icons-material';
 import { studentAPI, collegeAPI } from '../services/api';
+import usePagedList from '../hooks/usePagedList';
+import LoadMoreButton from './LoadMoreButton';
 
 const StudentManagement = () => {
-  const [students, setStudents] = useState([]);
+  const students = usePagedList(studentAPI.getPage);
   const [colleges, setColleges] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
@@ -59,8 +61,7 @@ const StudentManagement = () => {
   const fetchStudents = async () => {
     try {
       setLoading(true);
-      const response = await studentAPI.getAll();
-      setStudents(response.data);
+      await students.reload();
       setError(null);
     } catch (err) {
       setError('Failed to fetch students');
@@ -172,7 +173,7 @@ const StudentManagement = () => {
     try {
       setLoading(true);
       const response = await studentAPI.search(searchQuery);
-      setStudents(response.data);
+      students.showOnly(response.data);
     } catch (err) {
       setError('Failed to search students');
       console.error('Error searching students:', err);
@@ -181,7 +182,14 @@ const StudentManagement = () => {
     }
   };
 
-  const filteredStudents = students.filter(student =>
+  const handleLoadMore = () => {
+    students.loadMore().catch((err) => {
+      setError('Failed to load more students');
+      console.error('Error loading more students:', err);
+    });
+  };
+
+  const filteredStudents = students.items.filter(student =>
     !searchQuery || 
     student.firstName.toLowerCase().includes(searchQuery.toLowerCase()) ||
     student.lastName.toLowerCase().includes(searchQuery.toLowerCase()) ||
@@ -283,6 +291,8 @@ const StudentManagement = () => {
         ))}
       </Grid>
 
+      <LoadMoreButton hasMore={students.hasMore} loading={students.loadingMore} onClick={handleLoadMore} />
+
       {filteredStudents.length === 0 && (
         <Box sx={{ textAlign: 'center', mt: 4 }}>
           <Typography variant="h6" color="text.secondary">
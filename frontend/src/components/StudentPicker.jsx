@@ -0,0 +1,53 @@
+import React, { useEffect, useState } from 'react';
+import { Autocomplete, TextField } from '@mui/material';
+import { studentAPI } from '../services/api';
+
+// Searches students on the server as the user types instead of loading every student up front
+const StudentPicker = ({ value, onChange }) => {
+  const [query, setQuery] = useState('');
+  const [options, setOptions] = useState([]);
+
+  useEffect(() => {
+    if (query.trim().length < 2) {
+      setOptions([]);
+      return undefined;
+    }
+
+    let current = true;
+    const timer = setTimeout(() => {
+      studentAPI.search(query.trim())
+        .then((response) => {
+          if (current) {
+            setOptions(response.data);
+          }
+        })
+        .catch((err) => console.error('Error searching students:', err));
+    }, 300);
+    return () => {
+      current = false;
+      clearTimeout(timer);
+    };
+  }, [query]);
+
+  return (
+    <Autocomplete
+      options={options}
+      filterOptions={(x) => x}
+      getOptionLabel={(option) => `${option.firstName} ${option.lastName} (${option.studentId})`}
+      isOptionEqualToValue={(option, selected) => option.id === selected.id}
+      value={value}
+      onChange={onChange}
+      onInputChange={(event, newInputValue) => setQuery(newInputValue)}
+      noOptionsText={query.trim().length < 2 ? 'Type a name or roll number' : 'No students found'}
+      renderInput={(params) => (
+        <TextField
+          {...params}
+          label="Select Student"
+          required
+        />
+      )}
+    />
+  );
+};
+
+export default StudentPicker;
@@ -22,9 +22,11 @@ import {
 import { DataGrid } from '@mui/x-data-grid';
 import { Add as AddIcon, Edit as EditIcon, Delete as DeleteIcon } from '@mui/icons-material';
 import { userAPI } from '../services/api';
+import usePagedList from '../hooks/usePagedList';
+import LoadMoreButton from './LoadMoreButton';
 
 const UserManagement = () => {
-  const [users, setUsers] = useState([]);
+  const users = usePagedList(userAPI.getUsersPage);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [open, setOpen] = useState(false);
@@ -46,8 +48,7 @@ const UserManagement = () => {
   const fetchUsers = async () => {
     try {
       setLoading(true);
-      const response = await userAPI.getAllUsers();
-      setUsers(response.data);
+      await users.reload();
     } catch (error) {
       setError('Failed to fetch users');
       console.error('Error fetching users:', error);
@@ -225,7 +226,7 @@ const UserManagement = () => {
 
       <Box sx={{ height: 400, width: '100%' }}>
         <DataGrid
-          rows={users}
+          rows={users.items}
           columns={columns}
           loading={loading}
           pageSizeOptions={[5, 10, 25]}
@@ -237,6 +238,14 @@ const UserManagement = () => {
           disableRowSelectionOnClick
         />
       </Box>
+      <LoadMoreButton
+        hasMore={users.hasMore}
+        loading={users.loadingMore}
+        onClick={() => users.loadMore().catch((error) => {
+          setError('Failed to load more users');
+          console.error('Error loading more users:', error);
+        })}
+      />
 
       <Dialog open={open} onClose={handleClose} maxWidth="sm" fullWidth>
         <DialogTitle>
@@ -0,0 +1,38 @@
+import { useCallback, useState } from 'react';
+
+// One cursor-paginated list: reload() shows the first page again, loadMore() appends the next one
+const usePagedList = (fetchPage) => {
+  const [items, setItems] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+
+  const reload = useCallback(async () => {
+    const response = await fetchPage(null);
+    setItems(response.data.items);
+    setNextCursor(response.data.nextCursor);
+  }, [fetchPage]);
+
+  const loadMore = useCallback(async () => {
+    if (!nextCursor) {
+      return;
+    }
+    setLoadingMore(true);
+    try {
+      const response = await fetchPage(nextCursor);
+      setItems((current) => [...current, ...response.data.items]);
+      setNextCursor(response.data.nextCursor);
+    } finally {
+      setLoadingMore(false);
+    }
+  }, [fetchPage, nextCursor]);
+
+  // For a complete result from another endpoint, such as a search
+  const showOnly = useCallback((results) => {
+    setItems(results);
+    setNextCursor(null);
+  }, []);
+
+  return { items, hasMore: Boolean(nextCursor), loadingMore, reload, loadMore, showOnly };
+};
+
+export default usePagedList;
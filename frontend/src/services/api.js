@@ -35,6 +35,13 @@ api.interceptors.response.use(
   }
 );
 
+// List endpoints are cursor-paginated: each call loads one page, and its nextCursor (null on the last page)
+// fetches the one after it
+export const PAGE_SIZE = 20;
+
+const fetchPage = (url, cursor, sort = 'asc') =>
+  api.get(url, { params: { size: PAGE_SIZE, cursor, sort } });
+
 // College API
 export const collegeAPI = {
   getAll: () => api.get('/colleges'),
@@ -46,11 +53,11 @@ export const collegeAPI = {
 
 // Student API
 export const studentAPI = {
-  getAll: () => api.get('/students'),
+  getPage: (cursor) => fetchPage('/students', cursor),
   getById: (id) => api.get(`/students/${id}`),
   getByStudentId: (studentId) => api.get(`/students/student-id/${studentId}`),
   getByCollegeId: (collegeId) => api.get(`/students/college/${collegeId}`),
-  search: (query) => api.get(`/students/search?q=${query}`),
+  search: (query) => api.get('/students/search', { params: { q: query } }),
   create: (data) => api.post('/students', data),
   update: (id, data) => api.put(`/students/${id}`, data),
   delete: (id) => api.delete(`/students/${id}`),
@@ -58,7 +65,7 @@ export const studentAPI = {
 
 // Event API
 export const eventAPI = {
-  getAll: () => api.get('/events'),
+  getPage: (cursor) => fetchPage('/events', cursor),
   getActive: () => api.get('/events/active'),
   getAvailable: () => api.get('/events/available'),
   getById: (id) => api.get(`/events/${id}`),
@@ -74,7 +81,7 @@ export const eventAPI = {
 
 // Registration API
 export const registrationAPI = {
-  getAll: () => api.get('/registrations'),
+  getPage: (cursor) => fetchPage('/registrations', cursor, 'desc'),
   getByEventId: (eventId) => api.get(`/registrations/event/${eventId}`),
   getByStudentId: (studentId) => api.get(`/registrations/student/${studentId}`),
   getCountByEventId: (eventId) => api.get(`/registrations/event/${eventId}/count`),
@@ -86,7 +93,7 @@ export const registrationAPI = {
 
 // Attendance API
 export const attendanceAPI = {
-  getAll: () => api.get('/attendance'),
+  getPage: (cursor) => fetchPage('/attendance', cursor, 'desc'),
   getByEventId: (eventId) => api.get(`/attendance/event/${eventId}`),
   getByStudentId: (studentId) => api.get(`/attendance/student/${studentId}`),
   getPresentByEventId: (eventId) => api.get(`/attendance/event/${eventId}/present`),
@@ -100,7 +107,7 @@ export const attendanceAPI = {
 
 // Feedback API
 export const feedbackAPI = {
-  getAll: () => api.get('/feedback'),
+  getPage: (cursor) => fetchPage('/feedback', cursor, 'desc'),
   getByEventId: (eventId) => api.get(`/feedback/event/${eventId}`),
   getByStudentId: (studentId) => api.get(`/feedback/student/${studentId}`),
   getAverageRating: (eventId) => api.get(`/feedback/event/${eventId}/average-rating`),
@@ -112,6 +119,11 @@ export const feedbackAPI = {
   delete: (feedbackId) => api.delete(`/feedback/${feedbackId}`),
 };
 
+// Dashboard API
+export const dashboardAPI = {
+  getSummary: () => api.get('/dashboard/summary'),
+};
+
 // Reports API
 export const reportsAPI = {
   getEventPopularity: () => api.get('/reports/event-popularity'),
@@ -138,7 +150,7 @@ export const authAPI = {
 
 // User Management API (Admin only)
 export const userAPI = {
-  getAllUsers: () => api.get('/users'),
+  getUsersPage: (cursor) => fetchPage('/users', cursor),
   getUserById: (id) => api.get(`/users/${id}`),
   createUser: (userData) => api.post('/users', userData),
   updateUser: (id, userData) => api.put(`/users/${id}`, userData),
@@ -0,0 +1,60 @@
+package com.acharya.collegeeventmanagement.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Read-through caches for the college, event and student lookups and the dashboard summary. Entries are response
+// DTOs, never entities, so nothing cached is tied to a persistence context.
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    public static final String COLLEGES = "colleges";
+    
+    public static final String COLLEGE_LIST = "collegeList";
+    
+    public static final String EVENTS = "events";
+    
+    public static final String STUDENTS = "students";
+    
+    public static final String DASHBOARD = "dashboard";
+    
+    @Value("${cache.lookups.max-size:10000}")
+    private long maxSize;
+    
+    @Value("${cache.lookups.ttl-minutes:10}")
+    private long ttlMinutes;
+    
+    @Value("${cache.dashboard.ttl-seconds:15}")
+    private long dashboardTtlSeconds;
+    
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(COLLEGES, COLLEGE_LIST, EVENTS, STUDENTS);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats());
+        // Don't cache "not found"; a missing id may be created a moment later
+        caffeineCacheManager.setAllowNullValues(false);
+        
+        // The dashboard is never evicted on writes; it is simply recomputed once its short TTL runs out
+        caffeineCacheManager.registerCustomCache(DASHBOARD, Caffeine.newBuilder()
+                .maximumSize(2)
+                .expireAfterWrite(Duration.ofSeconds(dashboardTtlSeconds))
+                .recordStats()
+                .build());
+        
+        // Evictions (and puts) made inside a transaction are applied after it commits, so a concurrent reader
+        // cannot put the pre-commit row back into the cache
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,105 @@
+package com.acharya.collegeeventmanagement.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.sqlite.SQLiteConfig;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// SQLite lets one connection write at a time. All writes share a single-connection pool, so concurrent writers
+// wait in line for that connection instead of failing with SQLITE_BUSY. @Transactional(readOnly = true) work
+// runs on a separate pool of read-only connections; in WAL mode those read the last committed state and
+// never wait for the writer.
+@Configuration
+public class DataSourceConfig {
+    
+    private static final String WRITE = "write";
+    
+    private static final String READ = "read";
+    
+    @Value("${spring.datasource.url}")
+    private String url;
+    
+    @Value("${spring.datasource.driver-class-name}")
+    private String driverClassName;
+    
+    @Value("${sqlite.busy-timeout-ms:5000}")
+    private int busyTimeoutMs;
+    
+    @Value("${sqlite.write-pool.connection-timeout-ms:30000}")
+    private long writeConnectionTimeoutMs;
+    
+    @Value("${sqlite.read-pool.size:8}")
+    private int readPoolSize;
+    
+    @Bean(destroyMethod = "close")
+    public HikariDataSource writeDataSource() {
+        SQLiteConfig sqliteConfig = new SQLiteConfig();
+        // WAL is stored in the database file, so setting it on the writer switches every connection over
+        sqliteConfig.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        // In WAL mode NORMAL only syncs at checkpoints; a power cut can lose the last commits but not corrupt the file
+        sqliteConfig.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        sqliteConfig.setBusyTimeout(busyTimeoutMs);
+        
+        HikariConfig hikariConfig = poolConfig("sqlite-writer", sqliteConfig, 1);
+        // How long a write waits for its turn before giving up
+        hikariConfig.setConnectionTimeout(writeConnectionTimeoutMs);
+        return new HikariDataSource(hikariConfig);
+    }
+    
+    // The writer creates the database file and turns on WAL; read-only connections can do neither
+    @Bean(destroyMethod = "close")
+    @DependsOn("writeDataSource")
+    public HikariDataSource readDataSource() {
+        SQLiteConfig sqliteConfig = new SQLiteConfig();
+        sqliteConfig.setReadOnly(true);
+        sqliteConfig.setBusyTimeout(busyTimeoutMs);
+        
+        HikariConfig hikariConfig = poolConfig("sqlite-reader", sqliteConfig, readPoolSize);
+        hikariConfig.setReadOnly(true);
+        return new HikariDataSource(hikariConfig);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(WRITE, writeDataSource, READ, readDataSource));
+        routingDataSource.setDefaultTargetDataSource(writeDataSource);
+        routingDataSource.afterPropertiesSet();
+        
+        // The transaction manager asks for a connection before the read-only flag is bound to the thread;
+        // the lazy proxy holds off picking a pool until the first statement runs
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+    
+    private HikariConfig poolConfig(String poolName, SQLiteConfig sqliteConfig, int size) {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setJdbcUrl(url);
+        hikariConfig.setDriverClassName(driverClassName);
+        hikariConfig.setDataSourceProperties(sqliteConfig.toProperties());
+        hikariConfig.setMaximumPoolSize(size);
+        hikariConfig.setMinimumIdle(size);
+        return hikariConfig;
+    }
+    
+    private static final class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+        
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? READ : WRITE;
+        }
+    }
+}
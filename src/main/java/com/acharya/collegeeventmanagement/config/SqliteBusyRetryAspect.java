@@ -0,0 +1,102 @@
+package com.acharya.collegeeventmanagement.config;
+
+import com.acharya.collegeeventmanagement.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.sqlite.SQLiteException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Retries transactional service calls that fail because SQLite reported the database busy or locked, which
+// happens when busy_timeout runs out or SQLite refuses to wait (e.g. a read transaction upgrading to a write).
+// Backoff is exponential with full jitter and bounded by a total deadline; after that the caller gets a
+// DatabaseBusyException (503). Ordered before the transaction interceptor so every attempt is a new transaction.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqliteBusyRetryAspect {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SqliteBusyRetryAspect.class);
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sqlite.busy-retry.max-attempts:8}")
+    private int maxAttempts;
+    
+    @Value("${sqlite.busy-retry.initial-backoff-ms:20}")
+    private long initialBackoffMs;
+    
+    @Value("${sqlite.busy-retry.max-backoff-ms:500}")
+    private long maxBackoffMs;
+    
+    @Value("${sqlite.busy-retry.deadline-ms:3000}")
+    private long deadlineMs;
+    
+    @Around("within(com.acharya.collegeeventmanagement.service..*) && "
+            + "(@within(org.springframework.transaction.annotation.Transactional) "
+            + "|| @annotation(org.springframework.transaction.annotation.Transactional))")
+    public Object retryWhenBusy(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Only the outermost call may retry; a nested call shares a transaction it cannot redo on its own
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException e) {
+                if (!isBusy(e)) {
+                    throw e;
+                }
+                
+                long ceilingMs = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+                long backoffMs = ThreadLocalRandom.current().nextLong(ceilingMs + 1);
+                if (attempt >= maxAttempts || System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs) > deadline) {
+                    meterRegistry.counter("sqlite.busy.giveups", "method", method).increment();
+                    logger.warn("{} still failing with a locked database after {} attempts", method, attempt, e);
+                    throw new DatabaseBusyException("Database is busy, please retry shortly", e);
+                }
+                
+                meterRegistry.counter("sqlite.busy.retries", "method", method).increment();
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new DatabaseBusyException("Interrupted while waiting to retry a locked database", e);
+                }
+            }
+        }
+    }
+    
+    // Spring and Hibernate wrap the driver exception differently depending on where it was thrown, so look
+    // through the whole cause chain
+    private static boolean isBusy(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof SQLiteException sqliteException) {
+                String resultCode = sqliteException.getResultCode().name();
+                if (resultCode.startsWith("SQLITE_BUSY") || resultCode.startsWith("SQLITE_LOCKED")) {
+                    return true;
+                }
+            }
+            String message = cause.getMessage();
+            if (message != null && (message.contains("database is locked") || message.contains("database table is locked"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,11 +1,20 @@
 package com.acharya.collegeeventmanagement.controller;
 
-import com.acharya.collegeeventmanagement.entity.Attendance;
+import com.acharya.collegeeventmanagement.dto.AttendanceResponse;
+import com.acharya.collegeeventmanagement.dto.CheckInResult;
+import com.acharya.collegeeventmanagement.dto.CursorPage;
+import com.acharya.collegeeventmanagement.dto.KeysetPageRequest;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
 import com.acharya.collegeeventmanagement.service.AttendanceService;
+import com.acharya.collegeeventmanagement.service.CheckInService;
+import com.acharya.collegeeventmanagement.service.ExportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -19,12 +28,30 @@ public class AttendanceController {
     @Autowired
     private AttendanceService attendanceService;
     
+    @Autowired
+    private CheckInService checkInService;
+    
+    @Autowired
+    private ExportService exportService;
+    
     @PostMapping("/mark")
     public ResponseEntity<?> markAttendance(@RequestParam Long studentId, @RequestParam Long eventId) {
         try {
-            Attendance attendance = attendanceService.markAttendance(studentId, eventId);
+            AttendanceResponse attendance = attendanceService.markAttendance(studentId, eventId);
             return ResponseEntity.status(HttpStatus.CREATED).body(attendance);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // Kiosk mode: scan a roll number at the entrance
+    @PostMapping("/check-in")
+    public ResponseEntity<?> checkIn(@RequestParam Long eventId, @RequestParam String rollNumber) {
+        try {
+            CheckInResult result = checkInService.checkIn(eventId, rollNumber);
+            HttpStatus status = result.status() == CheckInResult.Status.CHECKED_IN ? HttpStatus.CREATED : HttpStatus.OK;
+            return ResponseEntity.status(status).body(result);
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
@@ -32,46 +59,68 @@ public class AttendanceController {
     @PostMapping("/mark-absent")
     public ResponseEntity<?> markAbsent(@RequestParam Long studentId, @RequestParam Long eventId) {
         try {
-            Attendance attendance = attendanceService.markAbsent(studentId, eventId);
+            AttendanceResponse attendance = attendanceService.markAbsent(studentId, eventId);
             return ResponseEntity.status(HttpStatus.CREATED).body(attendance);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
     
     @GetMapping
-    public ResponseEntity<List<Attendance>> getAllAttendance() {
-        List<Attendance> attendances = attendanceService.getAllAttendance();
-        return ResponseEntity.ok(attendances);
+    public ResponseEntity<?> getAllAttendance(@RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer size,
+                                              @RequestParam(required = false) String sort) {
+        try {
+            CursorPage<AttendanceResponse> attendances = attendanceService.getAttendancePage(KeysetPageRequest.of(cursor, size, sort));
+            return ResponseEntity.ok(attendances);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
     
     @GetMapping("/event/{eventId}")
-    public ResponseEntity<List<Attendance>> getAttendanceByEventId(@PathVariable Long eventId) {
-        List<Attendance> attendances = attendanceService.getAttendanceByEventId(eventId);
+    public ResponseEntity<List<AttendanceResponse>> getAttendanceByEventId(@PathVariable Long eventId) {
+        List<AttendanceResponse> attendances = attendanceService.getAttendanceByEventId(eventId);
         return ResponseEntity.ok(attendances);
     }
     
+    @GetMapping("/event/{eventId}/export")
+    public ResponseEntity<StreamingResponseBody> exportAttendanceByEventId(@PathVariable Long eventId,
+                                                                           @RequestParam(defaultValue = "csv") String format) {
+        try {
+            ExportService.Format exportFormat = ExportService.Format.from(format);
+            StreamingResponseBody body = exportService.attendanceByEvent(eventId, exportFormat);
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.mediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.contentDisposition("event-" + eventId + "-attendance"))
+                    .body(body);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(exportService.errorBody(e.getMessage()));
+        }
+    }
+    
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<Attendance>> getAttendanceByStudentId(@PathVariable Long studentId) {
-        List<Attendance> attendances = attendanceService.getAttendanceByStudentId(studentId);
+    public ResponseEntity<List<AttendanceResponse>> getAttendanceByStudentId(@PathVariable Long studentId) {
+        List<AttendanceResponse> attendances = attendanceService.getAttendanceByStudentId(studentId);
         return ResponseEntity.ok(attendances);
     }
     
     @GetMapping("/event/{eventId}/present")
-    public ResponseEntity<List<Attendance>> getPresentAttendanceByEventId(@PathVariable Long eventId) {
-        List<Attendance> attendances = attendanceService.getPresentAttendanceByEventId(eventId);
+    public ResponseEntity<List<AttendanceResponse>> getPresentAttendanceByEventId(@PathVariable Long eventId) {
+        List<AttendanceResponse> attendances = attendanceService.getPresentAttendanceByEventId(eventId);
         return ResponseEntity.ok(attendances);
     }
     
     @GetMapping("/student/{studentId}/present")
-    public ResponseEntity<List<Attendance>> getPresentAttendanceByStudentId(@PathVariable Long studentId) {
-        List<Attendance> attendances = attendanceService.getPresentAttendanceByStudentId(studentId);
+    public ResponseEntity<List<AttendanceResponse>> getPresentAttendanceByStudentId(@PathVariable Long studentId) {
+        List<AttendanceResponse> attendances = attendanceService.getPresentAttendanceByStudentId(studentId);
         return ResponseEntity.ok(attendances);
     }
     
     @GetMapping("/student/{studentId}/event/{eventId}")
     public ResponseEntity<?> getAttendanceByStudentAndEvent(@PathVariable Long studentId, @PathVariable Long eventId) {
-        Optional<Attendance> attendance = attendanceService.getAttendanceByStudentAndEvent(studentId, eventId);
+        Optional<AttendanceResponse> attendance = attendanceService.getAttendanceByStudentAndEvent(studentId, eventId);
         if (attendance.isPresent()) {
             return ResponseEntity.ok(attendance.get());
         } else {
@@ -4,6 +4,7 @@ import com.acharya.collegeeventmanagement.entity.Role;
 import com.acharya.collegeeventmanagement.entity.User;
 import com.acharya.collegeeventmanagement.repository.UserRepository;
 import com.acharya.collegeeventmanagement.security.JwtUtil;
+import com.acharya.collegeeventmanagement.security.UserAccessRegistry;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -36,6 +37,9 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
     
+    @Autowired
+    private UserAccessRegistry userAccessRegistry;
+    
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
         try {
@@ -94,6 +98,7 @@ public class AuthController {
             user.setIsActive(true);
             
             User savedUser = userRepository.save(user);
+            userAccessRegistry.userChanged(savedUser);
             
             String token = jwtUtil.generateToken(savedUser.getUsername(), savedUser.getRole().name());
             
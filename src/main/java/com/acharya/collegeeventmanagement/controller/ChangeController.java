@@ -0,0 +1,29 @@
+package com.acharya.collegeeventmanagement.controller;
+
+import com.acharya.collegeeventmanagement.dto.ChangeFeed;
+import com.acharya.collegeeventmanagement.service.ChangeFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/changes")
+@CrossOrigin(origins = "*")
+public class ChangeController {
+    
+    @Autowired
+    private ChangeFeedService changeFeedService;
+    
+    @GetMapping
+    public ResponseEntity<?> getChanges(@RequestParam(defaultValue = "0") long since,
+                                        @RequestParam(required = false) Integer limit) {
+        try {
+            ChangeFeed changes = changeFeedService.getChangesSince(since, limit);
+            return ResponseEntity.ok(changes);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.acharya.collegeeventmanagement.controller;
 
+import com.acharya.collegeeventmanagement.dto.CollegeResponse;
 import com.acharya.collegeeventmanagement.entity.College;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
 import com.acharya.collegeeventmanagement.service.CollegeService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,22 +25,22 @@ public class CollegeController {
     @PostMapping
     public ResponseEntity<?> addCollege(@Valid @RequestBody College college) {
         try {
-            College savedCollege = collegeService.addCollege(college);
+            CollegeResponse savedCollege = collegeService.addCollege(college);
             return ResponseEntity.status(HttpStatus.CREATED).body(savedCollege);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
     
     @GetMapping
-    public ResponseEntity<List<College>> getAllColleges() {
-        List<College> colleges = collegeService.getAllColleges();
+    public ResponseEntity<List<CollegeResponse>> getAllColleges() {
+        List<CollegeResponse> colleges = collegeService.getAllColleges();
         return ResponseEntity.ok(colleges);
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<?> getCollegeById(@PathVariable Long id) {
-        Optional<College> college = collegeService.getCollegeById(id);
+        Optional<CollegeResponse> college = collegeService.getCollegeById(id);
         if (college.isPresent()) {
             return ResponseEntity.ok(college.get());
         } else {
@@ -48,7 +50,7 @@ public class CollegeController {
     
     @GetMapping("/name/{name}")
     public ResponseEntity<?> getCollegeByName(@PathVariable String name) {
-        Optional<College> college = collegeService.getCollegeByName(name);
+        Optional<CollegeResponse> college = collegeService.getCollegeByName(name);
         if (college.isPresent()) {
             return ResponseEntity.ok(college.get());
         } else {
@@ -59,9 +61,9 @@ public class CollegeController {
     @PutMapping("/{id}")
     public ResponseEntity<?> updateCollege(@PathVariable Long id, @Valid @RequestBody College collegeDetails) {
         try {
-            College updatedCollege = collegeService.updateCollege(id, collegeDetails);
+            CollegeResponse updatedCollege = collegeService.updateCollege(id, collegeDetails);
             return ResponseEntity.ok(updatedCollege);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
@@ -71,7 +73,7 @@ public class CollegeController {
         try {
             collegeService.deleteCollege(id);
             return ResponseEntity.ok(Map.of("message", "College deleted successfully"));
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
@@ -0,0 +1,25 @@
+package com.acharya.collegeeventmanagement.controller;
+
+import com.acharya.collegeeventmanagement.dto.DashboardSummary;
+import com.acharya.collegeeventmanagement.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "*")
+public class DashboardController {
+    
+    @Autowired
+    private DashboardService dashboardService;
+    
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummary> getSummary(Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        DashboardSummary summary = dashboardService.getSummary(admin);
+        return ResponseEntity.ok(summary);
+    }
+}
@@ -1,13 +1,22 @@
 package com.acharya.collegeeventmanagement.controller;
 
+import com.acharya.collegeeventmanagement.dto.CursorPage;
+import com.acharya.collegeeventmanagement.dto.EventResponse;
+import com.acharya.collegeeventmanagement.dto.KeysetPageRequest;
 import com.acharya.collegeeventmanagement.entity.Event;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
+import com.acharya.collegeeventmanagement.exception.TooManyRequestsException;
 import com.acharya.collegeeventmanagement.service.EventService;
+import com.acharya.collegeeventmanagement.service.LiveCountService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,37 +31,46 @@ public class EventController {
     @Autowired
     private EventService eventService;
     
+    @Autowired
+    private LiveCountService liveCountService;
+    
     @PostMapping
     public ResponseEntity<?> createEvent(@Valid @RequestBody Event event) {
         try {
-            Event savedEvent = eventService.createEvent(event);
+            EventResponse savedEvent = eventService.createEvent(event);
             return ResponseEntity.status(HttpStatus.CREATED).body(savedEvent);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
     
     @GetMapping
-    public ResponseEntity<List<Event>> getAllEvents() {
-        List<Event> events = eventService.getAllEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<?> getAllEvents(@RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer size,
+                                          @RequestParam(required = false) String sort) {
+        try {
+            CursorPage<EventResponse> events = eventService.getEventsPage(KeysetPageRequest.of(cursor, size, sort));
+            return ResponseEntity.ok(events);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
     
     @GetMapping("/active")
-    public ResponseEntity<List<Event>> getActiveEvents() {
-        List<Event> events = eventService.getActiveEvents();
+    public ResponseEntity<List<EventResponse>> getActiveEvents() {
+        List<EventResponse> events = eventService.getActiveEvents();
         return ResponseEntity.ok(events);
     }
     
     @GetMapping("/available")
-    public ResponseEntity<List<Event>> getAvailableEvents() {
-        List<Event> events = eventService.getAvailableEvents();
+    public ResponseEntity<List<EventResponse>> getAvailableEvents() {
+        List<EventResponse> events = eventService.getAvailableEvents();
         return ResponseEntity.ok(events);
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<?> getEventById(@PathVariable Long id) {
-        Optional<Event> event = eventService.getEventById(id);
+        Optional<EventResponse> event = eventService.getEventById(id);
         if (event.isPresent()) {
             return ResponseEntity.ok(event.get());
         } else {
@@ -60,38 +78,54 @@ public class EventController {
         }
     }
     
+    // Server-Sent Events stream of the event's registration and attendance counts
+    @GetMapping("/{id}/live-counts")
+    public ResponseEntity<ResponseBodyEmitter> streamLiveCounts(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(liveCountService.subscribe(id));
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(liveCountService.errorBody(e.getMessage()));
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(liveCountService.errorBody(e.getMessage()));
+        }
+    }
+    
     @GetMapping("/college/{collegeId}")
-    public ResponseEntity<List<Event>> getEventsByCollegeId(@PathVariable Long collegeId) {
-        List<Event> events = eventService.getEventsByCollegeId(collegeId);
+    public ResponseEntity<List<EventResponse>> getEventsByCollegeId(@PathVariable Long collegeId) {
+        List<EventResponse> events = eventService.getEventsByCollegeId(collegeId);
         return ResponseEntity.ok(events);
     }
     
     @GetMapping("/type/{eventType}")
-    public ResponseEntity<List<Event>> getEventsByType(@PathVariable String eventType) {
-        List<Event> events = eventService.getEventsByType(eventType);
+    public ResponseEntity<List<EventResponse>> getEventsByType(@PathVariable String eventType) {
+        List<EventResponse> events = eventService.getEventsByType(eventType);
         return ResponseEntity.ok(events);
     }
     
     @GetMapping("/search")
-    public ResponseEntity<List<Event>> searchEvents(@RequestParam String q) {
-        List<Event> events = eventService.searchEvents(q);
+    public ResponseEntity<List<EventResponse>> searchEvents(@RequestParam String q) {
+        List<EventResponse> events = eventService.searchEvents(q);
         return ResponseEntity.ok(events);
     }
     
     @GetMapping("/date-range")
-    public ResponseEntity<List<Event>> getEventsByDateRange(
+    public ResponseEntity<List<EventResponse>> getEventsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
-        List<Event> events = eventService.getEventsByDateRange(startDate, endDate);
+        List<EventResponse> events = eventService.getEventsByDateRange(startDate, endDate);
         return ResponseEntity.ok(events);
     }
     
     @PutMapping("/{id}")
     public ResponseEntity<?> updateEvent(@PathVariable Long id, @Valid @RequestBody Event eventDetails) {
         try {
-            Event updatedEvent = eventService.updateEvent(id, eventDetails);
+            EventResponse updatedEvent = eventService.updateEvent(id, eventDetails);
             return ResponseEntity.ok(updatedEvent);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
@@ -101,7 +135,7 @@ public class EventController {
         try {
             eventService.deleteEvent(id);
             return ResponseEntity.ok(Map.of("message", "Event deleted successfully"));
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
@@ -1,13 +1,20 @@
 package com.acharya.collegeeventmanagement.controller;
 
-import com.acharya.collegeeventmanagement.entity.Feedback;
+import com.acharya.collegeeventmanagement.dto.CursorPage;
+import com.acharya.collegeeventmanagement.dto.FeedbackResponse;
+import com.acharya.collegeeventmanagement.dto.KeysetPageRequest;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
+import com.acharya.collegeeventmanagement.service.ExportService;
 import com.acharya.collegeeventmanagement.service.FeedbackService;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -21,6 +28,9 @@ public class FeedbackController {
     @Autowired
     private FeedbackService feedbackService;
     
+    @Autowired
+    private ExportService exportService;
+    
     @PostMapping("/submit")
     public ResponseEntity<?> submitFeedback(
             @RequestParam Long studentId,
@@ -28,9 +38,9 @@ public class FeedbackController {
             @RequestParam @Min(1) @Max(5) Integer rating,
             @RequestParam String comment) {
         try {
-            Feedback feedback = feedbackService.submitFeedback(studentId, eventId, rating, comment);
+            FeedbackResponse feedback = feedbackService.submitFeedback(studentId, eventId, rating, comment);
             return ResponseEntity.status(HttpStatus.CREATED).body(feedback);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
@@ -42,34 +52,56 @@ public class FeedbackController {
             @RequestParam @Min(1) @Max(5) Integer rating,
             @RequestParam String comment) {
         try {
-            Feedback feedback = feedbackService.updateFeedback(studentId, eventId, rating, comment);
+            FeedbackResponse feedback = feedbackService.updateFeedback(studentId, eventId, rating, comment);
             return ResponseEntity.ok(feedback);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
     
     @GetMapping
-    public ResponseEntity<List<Feedback>> getAllFeedbacks() {
-        List<Feedback> feedbacks = feedbackService.getAllFeedbacks();
-        return ResponseEntity.ok(feedbacks);
+    public ResponseEntity<?> getAllFeedbacks(@RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer size,
+                                             @RequestParam(required = false) String sort) {
+        try {
+            CursorPage<FeedbackResponse> feedbacks = feedbackService.getFeedbacksPage(KeysetPageRequest.of(cursor, size, sort));
+            return ResponseEntity.ok(feedbacks);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
     
     @GetMapping("/event/{eventId}")
-    public ResponseEntity<List<Feedback>> getFeedbacksByEventId(@PathVariable Long eventId) {
-        List<Feedback> feedbacks = feedbackService.getFeedbacksByEventId(eventId);
+    public ResponseEntity<List<FeedbackResponse>> getFeedbacksByEventId(@PathVariable Long eventId) {
+        List<FeedbackResponse> feedbacks = feedbackService.getFeedbacksByEventId(eventId);
         return ResponseEntity.ok(feedbacks);
     }
     
+    @GetMapping("/event/{eventId}/export")
+    public ResponseEntity<StreamingResponseBody> exportFeedbacksByEventId(@PathVariable Long eventId,
+                                                                          @RequestParam(defaultValue = "csv") String format) {
+        try {
+            ExportService.Format exportFormat = ExportService.Format.from(format);
+            StreamingResponseBody body = exportService.feedbackByEvent(eventId, exportFormat);
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.mediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.contentDisposition("event-" + eventId + "-feedback"))
+                    .body(body);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(exportService.errorBody(e.getMessage()));
+        }
+    }
+    
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<Feedback>> getFeedbacksByStudentId(@PathVariable Long studentId) {
-        List<Feedback> feedbacks = feedbackService.getFeedbacksByStudentId(studentId);
+    public ResponseEntity<List<FeedbackResponse>> getFeedbacksByStudentId(@PathVariable Long studentId) {
+        List<FeedbackResponse> feedbacks = feedbackService.getFeedbacksByStudentId(studentId);
         return ResponseEntity.ok(feedbacks);
     }
     
     @GetMapping("/student/{studentId}/event/{eventId}")
     public ResponseEntity<?> getFeedbackByStudentAndEvent(@PathVariable Long studentId, @PathVariable Long eventId) {
-        Optional<Feedback> feedback = feedbackService.getFeedbackByStudentAndEvent(studentId, eventId);
+        Optional<FeedbackResponse> feedback = feedbackService.getFeedbackByStudentAndEvent(studentId, eventId);
         if (feedback.isPresent()) {
             return ResponseEntity.ok(feedback.get());
         } else {
@@ -94,7 +126,7 @@ public class FeedbackController {
         try {
             feedbackService.deleteFeedback(feedbackId);
             return ResponseEntity.ok(Map.of("message", "Feedback deleted successfully"));
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
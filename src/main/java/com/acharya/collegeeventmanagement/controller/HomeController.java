@@ -22,6 +22,8 @@ public class HomeController {
                 "attendance", "/api/attendance",
                 "feedback", "/api/feedback",
                 "reports", "/api/reports",
+                "dashboard", "/api/dashboard/summary",
+                "changes", "/api/changes",
                 "health", "/actuator/health"
             ),
             "documentation", "See README.md for complete API documentation"
@@ -1,12 +1,27 @@
 package com.acharya.collegeeventmanagement.controller;
 
-import com.acharya.collegeeventmanagement.entity.Registration;
+import com.acharya.collegeeventmanagement.dto.BulkRegistrationRequest;
+import com.acharya.collegeeventmanagement.dto.BulkRegistrationResult;
+import com.acharya.collegeeventmanagement.dto.CursorPage;
+import com.acharya.collegeeventmanagement.dto.KeysetPageRequest;
+import com.acharya.collegeeventmanagement.dto.RegistrationResponse;
+import com.acharya.collegeeventmanagement.dto.RegistrationTicket;
+import com.acharya.collegeeventmanagement.dto.WaitlistResponse;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
+import com.acharya.collegeeventmanagement.exception.TooManyRequestsException;
+import com.acharya.collegeeventmanagement.service.ExportService;
+import com.acharya.collegeeventmanagement.service.RegistrationIntakeService;
 import com.acharya.collegeeventmanagement.service.RegistrationService;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -19,37 +34,99 @@ public class RegistrationController {
     @Autowired
     private RegistrationService registrationService;
     
+    @Autowired
+    private RegistrationIntakeService registrationIntakeService;
+    
+    @Autowired
+    private ExportService exportService;
+    
     @PostMapping("/register")
-    public ResponseEntity<?> registerStudentToEvent(@RequestParam Long studentId, @RequestParam Long eventId) {
+    public ResponseEntity<?> registerStudentToEvent(@RequestParam Long studentId, @RequestParam Long eventId,
+                                                    @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            try {
+                RegistrationTicket ticket = registrationIntakeService.submit(studentId, eventId);
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/registrations/tickets/" + ticket.ticketId()))
+                        .body(ticket);
+            } catch (TooManyRequestsException e) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header("Retry-After", "1")
+                        .body(Map.of("error", e.getMessage()));
+            }
+        }
+        
         try {
-            Registration registration = registrationService.registerStudentToEvent(studentId, eventId);
+            RegistrationResponse registration = registrationService.registerStudentToEvent(studentId, eventId);
             return ResponseEntity.status(HttpStatus.CREATED).body(registration);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/bulk")
+    public ResponseEntity<?> registerStudentsToEvent(@Valid @RequestBody BulkRegistrationRequest request) {
+        try {
+            BulkRegistrationResult result = registrationService.registerStudentsToEvent(request.eventId(), request.studentIds());
+            return ResponseEntity.ok(result);
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
     
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<?> getTicket(@PathVariable String ticketId) {
+        Optional<RegistrationTicket> ticket = registrationIntakeService.getTicket(ticketId);
+        if (ticket.isPresent()) {
+            return ResponseEntity.ok(ticket.get());
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
     @GetMapping
-    public ResponseEntity<List<Registration>> getAllRegistrations() {
-        List<Registration> registrations = registrationService.getAllRegistrations();
-        return ResponseEntity.ok(registrations);
+    public ResponseEntity<?> getAllRegistrations(@RequestParam(required = false) String cursor,
+                                                 @RequestParam(required = false) Integer size,
+                                                 @RequestParam(required = false) String sort) {
+        try {
+            CursorPage<RegistrationResponse> registrations = registrationService.getRegistrationsPage(KeysetPageRequest.of(cursor, size, sort));
+            return ResponseEntity.ok(registrations);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
     
     @GetMapping("/event/{eventId}")
-    public ResponseEntity<List<Registration>> getRegistrationsByEventId(@PathVariable Long eventId) {
-        List<Registration> registrations = registrationService.getRegistrationsByEventId(eventId);
+    public ResponseEntity<List<RegistrationResponse>> getRegistrationsByEventId(@PathVariable Long eventId) {
+        List<RegistrationResponse> registrations = registrationService.getRegistrationsByEventId(eventId);
         return ResponseEntity.ok(registrations);
     }
     
+    @GetMapping("/event/{eventId}/export")
+    public ResponseEntity<StreamingResponseBody> exportRegistrationsByEventId(@PathVariable Long eventId,
+                                                                              @RequestParam(defaultValue = "csv") String format) {
+        try {
+            ExportService.Format exportFormat = ExportService.Format.from(format);
+            StreamingResponseBody body = exportService.registrationsByEvent(eventId, exportFormat);
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.mediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.contentDisposition("event-" + eventId + "-registrations"))
+                    .body(body);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(exportService.errorBody(e.getMessage()));
+        }
+    }
+    
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<Registration>> getRegistrationsByStudentId(@PathVariable Long studentId) {
-        List<Registration> registrations = registrationService.getRegistrationsByStudentId(studentId);
+    public ResponseEntity<List<RegistrationResponse>> getRegistrationsByStudentId(@PathVariable Long studentId) {
+        List<RegistrationResponse> registrations = registrationService.getRegistrationsByStudentId(studentId);
         return ResponseEntity.ok(registrations);
     }
     
     @GetMapping("/student/{studentId}/event/{eventId}")
     public ResponseEntity<?> getRegistrationByStudentAndEvent(@PathVariable Long studentId, @PathVariable Long eventId) {
-        Optional<Registration> registration = registrationService.getRegistrationByStudentAndEvent(studentId, eventId);
+        Optional<RegistrationResponse> registration = registrationService.getRegistrationByStudentAndEvent(studentId, eventId);
         if (registration.isPresent()) {
             return ResponseEntity.ok(registration.get());
         } else {
@@ -68,7 +145,43 @@ public class RegistrationController {
         try {
             registrationService.cancelRegistration(studentId, eventId);
             return ResponseEntity.ok(Map.of("message", "Registration cancelled successfully"));
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/waitlist")
+    public ResponseEntity<?> joinWaitlist(@RequestParam Long studentId, @RequestParam Long eventId) {
+        try {
+            WaitlistResponse entry = registrationService.joinWaitlist(studentId, eventId);
+            return ResponseEntity.status(HttpStatus.CREATED).body(entry);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/waitlist/event/{eventId}")
+    public ResponseEntity<List<WaitlistResponse>> getWaitlistByEventId(@PathVariable Long eventId) {
+        List<WaitlistResponse> entries = registrationService.getWaitlistByEventId(eventId);
+        return ResponseEntity.ok(entries);
+    }
+    
+    @GetMapping("/waitlist/student/{studentId}/event/{eventId}")
+    public ResponseEntity<?> getWaitlistPosition(@PathVariable Long studentId, @PathVariable Long eventId) {
+        Optional<WaitlistResponse> entry = registrationService.getWaitlistPosition(studentId, eventId);
+        if (entry.isPresent()) {
+            return ResponseEntity.ok(entry.get());
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @DeleteMapping("/waitlist")
+    public ResponseEntity<?> leaveWaitlist(@RequestParam Long studentId, @RequestParam Long eventId) {
+        try {
+            registrationService.leaveWaitlist(studentId, eventId);
+            return ResponseEntity.ok(Map.of("message", "Left the waitlist successfully"));
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
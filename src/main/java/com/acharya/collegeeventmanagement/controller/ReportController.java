@@ -1,9 +1,17 @@
 package com.acharya.collegeeventmanagement.controller;
 
+import com.acharya.collegeeventmanagement.dto.AttendanceReport;
+import com.acharya.collegeeventmanagement.dto.EventPopularityReport;
+import com.acharya.collegeeventmanagement.dto.OverallStatistics;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
+import com.acharya.collegeeventmanagement.service.ExportService;
 import com.acharya.collegeeventmanagement.service.ReportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -16,31 +24,70 @@ public class ReportController {
     @Autowired
     private ReportService reportService;
     
+    @Autowired
+    private ExportService exportService;
+    
     @GetMapping("/event-popularity")
-    public ResponseEntity<List<Map<String, Object>>> getEventPopularityReport() {
-        List<Map<String, Object>> report = reportService.getEventPopularityReport();
+    public ResponseEntity<List<EventPopularityReport>> getEventPopularityReport() {
+        List<EventPopularityReport> report = reportService.getEventPopularityReport();
         return ResponseEntity.ok(report);
     }
     
+    @GetMapping("/event-popularity/export")
+    public ResponseEntity<StreamingResponseBody> exportEventPopularityReport(@RequestParam(defaultValue = "csv") String format) {
+        try {
+            ExportService.Format exportFormat = ExportService.Format.from(format);
+            StreamingResponseBody body = exportService.eventPopularityReport(exportFormat);
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.mediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.contentDisposition("event-popularity"))
+                    .body(body);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(exportService.errorBody(e.getMessage()));
+        }
+    }
+    
     @GetMapping("/attendance/event/{eventId}")
-    public ResponseEntity<Map<String, Object>> getAttendanceReportByEventId(@PathVariable Long eventId) {
+    public ResponseEntity<?> getAttendanceReportByEventId(@PathVariable Long eventId) {
         try {
-            Map<String, Object> report = reportService.getAttendanceReportByEventId(eventId);
+            AttendanceReport report = reportService.getAttendanceReportByEventId(eventId);
             return ResponseEntity.ok(report);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
     
     @GetMapping("/attendance/all")
-    public ResponseEntity<List<Map<String, Object>>> getAllEventsAttendanceReport() {
-        List<Map<String, Object>> report = reportService.getAllEventsAttendanceReport();
+    public ResponseEntity<List<AttendanceReport>> getAllEventsAttendanceReport() {
+        List<AttendanceReport> report = reportService.getAllEventsAttendanceReport();
         return ResponseEntity.ok(report);
     }
     
+    @GetMapping("/attendance/export")
+    public ResponseEntity<StreamingResponseBody> exportAttendanceReport(@RequestParam(defaultValue = "csv") String format) {
+        try {
+            ExportService.Format exportFormat = ExportService.Format.from(format);
+            StreamingResponseBody body = exportService.attendanceReport(exportFormat);
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.mediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.contentDisposition("attendance-report"))
+                    .body(body);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(exportService.errorBody(e.getMessage()));
+        }
+    }
+    
     @GetMapping("/statistics")
-    public ResponseEntity<Map<String, Object>> getOverallStatistics() {
-        Map<String, Object> stats = reportService.getOverallStatistics();
+    public ResponseEntity<OverallStatistics> getOverallStatistics() {
+        OverallStatistics stats = reportService.getOverallStatistics();
         return ResponseEntity.ok(stats);
     }
+    
+    @PostMapping("/statistics/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildEventStatistics() {
+        int rebuiltEvents = reportService.rebuildEventStatistics();
+        return ResponseEntity.ok(Map.of("message", "Event statistics rebuilt successfully", "events", rebuiltEvents));
+    }
 }
@@ -1,13 +1,23 @@
 package com.acharya.collegeeventmanagement.controller;
 
+import com.acharya.collegeeventmanagement.dto.CursorPage;
+import com.acharya.collegeeventmanagement.dto.KeysetPageRequest;
+import com.acharya.collegeeventmanagement.dto.StudentImportResult;
+import com.acharya.collegeeventmanagement.dto.StudentResponse;
 import com.acharya.collegeeventmanagement.entity.Student;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
+import com.acharya.collegeeventmanagement.service.StudentImportService;
 import com.acharya.collegeeventmanagement.service.StudentService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,25 +30,47 @@ public class StudentController {
     @Autowired
     private StudentService studentService;
     
+    @Autowired
+    private StudentImportService studentImportService;
+    
     @PostMapping
     public ResponseEntity<?> addStudent(@Valid @RequestBody Student student) {
         try {
-            Student savedStudent = studentService.addStudent(student);
+            StudentResponse savedStudent = studentService.addStudent(student);
             return ResponseEntity.status(HttpStatus.CREATED).body(savedStudent);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // Bulk import from a CSV upload; rows that fail are listed in the result and the rest are still saved
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importStudents(@RequestParam("file") MultipartFile file) {
+        try (InputStream csv = file.getInputStream()) {
+            StudentImportResult result = studentImportService.importStudents(csv);
+            return ResponseEntity.ok(result);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Could not read the uploaded file: " + e.getMessage()));
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
     
     @GetMapping
-    public ResponseEntity<List<Student>> getAllStudents() {
-        List<Student> students = studentService.getAllStudents();
-        return ResponseEntity.ok(students);
+    public ResponseEntity<?> getAllStudents(@RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer size,
+                                            @RequestParam(required = false) String sort) {
+        try {
+            CursorPage<StudentResponse> students = studentService.getStudentsPage(KeysetPageRequest.of(cursor, size, sort));
+            return ResponseEntity.ok(students);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<?> getStudentById(@PathVariable Long id) {
-        Optional<Student> student = studentService.getStudentById(id);
+        Optional<StudentResponse> student = studentService.getStudentById(id);
         if (student.isPresent()) {
             return ResponseEntity.ok(student.get());
         } else {
@@ -48,7 +80,7 @@ public class StudentController {
     
     @GetMapping("/student-id/{studentId}")
     public ResponseEntity<?> getStudentByStudentId(@PathVariable String studentId) {
-        Optional<Student> student = studentService.getStudentByStudentId(studentId);
+        Optional<StudentResponse> student = studentService.getStudentByStudentId(studentId);
         if (student.isPresent()) {
             return ResponseEntity.ok(student.get());
         } else {
@@ -57,23 +89,23 @@ public class StudentController {
     }
     
     @GetMapping("/college/{collegeId}")
-    public ResponseEntity<List<Student>> getStudentsByCollegeId(@PathVariable Long collegeId) {
-        List<Student> students = studentService.getStudentsByCollegeId(collegeId);
+    public ResponseEntity<List<StudentResponse>> getStudentsByCollegeId(@PathVariable Long collegeId) {
+        List<StudentResponse> students = studentService.getStudentsByCollegeId(collegeId);
         return ResponseEntity.ok(students);
     }
     
     @GetMapping("/search")
-    public ResponseEntity<List<Student>> searchStudents(@RequestParam String q) {
-        List<Student> students = studentService.searchStudents(q);
+    public ResponseEntity<List<StudentResponse>> searchStudents(@RequestParam String q) {
+        List<StudentResponse> students = studentService.searchStudents(q);
         return ResponseEntity.ok(students);
     }
     
     @PutMapping("/{id}")
     public ResponseEntity<?> updateStudent(@PathVariable Long id, @Valid @RequestBody Student studentDetails) {
         try {
-            Student updatedStudent = studentService.updateStudent(id, studentDetails);
+            StudentResponse updatedStudent = studentService.updateStudent(id, studentDetails);
             return ResponseEntity.ok(updatedStudent);
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
@@ -83,7 +115,7 @@ public class StudentController {
         try {
             studentService.deleteStudent(id);
             return ResponseEntity.ok(Map.of("message", "Student deleted successfully"));
-        } catch (RuntimeException e) {
+        } catch (BadRequestException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
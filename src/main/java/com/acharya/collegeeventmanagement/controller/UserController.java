@@ -1,9 +1,12 @@
 package com.acharya.collegeeventmanagement.controller;
 
+import com.acharya.collegeeventmanagement.dto.KeysetPageRequest;
+import com.acharya.collegeeventmanagement.dto.UserResponse;
 import com.acharya.collegeeventmanagement.entity.Role;
 import com.acharya.collegeeventmanagement.entity.User;
 import com.acharya.collegeeventmanagement.repository.UserRepository;
 import com.acharya.collegeeventmanagement.security.JwtUtil;
+import com.acharya.collegeeventmanagement.security.UserAccessRegistry;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -28,17 +31,29 @@ public class UserController {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private UserAccessRegistry userAccessRegistry;
+    
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> users = userRepository.findAll();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getAllUsers(@RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer size,
+                                         @RequestParam(required = false) String sort) {
+        try {
+            KeysetPageRequest pageRequest = KeysetPageRequest.of(cursor, size, sort);
+            List<User> users = pageRequest.isDescending()
+                    ? userRepository.findByIdLessThan(pageRequest.getAnchorId(), pageRequest.toPageable())
+                    : userRepository.findByIdGreaterThan(pageRequest.getAnchorId(), pageRequest.toPageable());
+            return ResponseEntity.ok(pageRequest.toPage(users.stream().map(UserResponse::from).toList(), UserResponse::id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<?> getUserById(@PathVariable Long id) {
         Optional<User> user = userRepository.findById(id);
         if (user.isPresent()) {
-            return ResponseEntity.ok(user.get());
+            return ResponseEntity.ok(UserResponse.from(user.get()));
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -59,10 +74,8 @@ public class UserController {
             
             user.setPassword(passwordEncoder.encode(user.getPassword()));
             User savedUser = userRepository.save(user);
-            
-            // Remove password from response
-            savedUser.setPassword(null);
-            return ResponseEntity.status(HttpStatus.CREATED).body(savedUser);
+            userAccessRegistry.userChanged(savedUser);
+            return ResponseEntity.status(HttpStatus.CREATED).body(UserResponse.from(savedUser));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", "Failed to create user: " + e.getMessage()));
@@ -87,6 +100,7 @@ public class UserController {
                         .body(Map.of("error", "Email is already registered"));
             }
             
+            String previousUsername = user.getUsername();
             user.setUsername(userDetails.getUsername());
             user.setEmail(userDetails.getEmail());
             user.setFirstName(userDetails.getFirstName());
@@ -99,9 +113,11 @@ public class UserController {
             }
             
             User updatedUser = userRepository.save(user);
-            updatedUser.setPassword(null);
-            
-            return ResponseEntity.ok(updatedUser);
+            if (!previousUsername.equals(updatedUser.getUsername())) {
+                userAccessRegistry.userRemoved(previousUsername);
+            }
+            userAccessRegistry.userChanged(updatedUser);
+            return ResponseEntity.ok(UserResponse.from(updatedUser));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", "Failed to update user: " + e.getMessage()));
@@ -115,6 +131,7 @@ public class UserController {
                     .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
             
             userRepository.delete(user);
+            userAccessRegistry.userRemoved(user.getUsername());
             return ResponseEntity.ok(Map.of("message", "User deleted successfully"));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -132,8 +149,8 @@ public class UserController {
             if (newRole != null && (newRole.equals("ADMIN") || newRole.equals("USER"))) {
                 user.setRole(Role.valueOf(newRole));
                 User updatedUser = userRepository.save(user);
-                updatedUser.setPassword(null);
-                return ResponseEntity.ok(updatedUser);
+                userAccessRegistry.userChanged(updatedUser);
+                return ResponseEntity.ok(UserResponse.from(updatedUser));
             } else {
                 return ResponseEntity.badRequest()
                         .body(Map.of("error", "Invalid role. Must be ADMIN or USER"));
@@ -154,8 +171,8 @@ public class UserController {
             if (isActive != null) {
                 user.setIsActive(isActive);
                 User updatedUser = userRepository.save(user);
-                updatedUser.setPassword(null);
-                return ResponseEntity.ok(updatedUser);
+                userAccessRegistry.userChanged(updatedUser);
+                return ResponseEntity.ok(UserResponse.from(updatedUser));
             } else {
                 return ResponseEntity.badRequest()
                         .body(Map.of("error", "Invalid status. Must be true or false"));
@@ -0,0 +1,25 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import java.time.LocalDateTime;
+
+public record AttendanceReport(
+        Long eventId,
+        String eventName,
+        LocalDateTime eventDate,
+        Long totalRegistrations,
+        Long presentAttendances,
+        Long absentCount,
+        Double attendancePercentage) {
+    
+    public AttendanceReport(Long eventId, String eventName, LocalDateTime eventDate,
+                            Long totalRegistrations, Long presentAttendances) {
+        this(eventId, eventName, eventDate, totalRegistrations, presentAttendances,
+                totalRegistrations - presentAttendances, percentage(presentAttendances, totalRegistrations));
+    }
+    
+    private static Double percentage(Long presentAttendances, Long totalRegistrations) {
+        double attendancePercentage = totalRegistrations > 0 ?
+            (double) presentAttendances / totalRegistrations * 100 : 0.0;
+        return Math.round(attendancePercentage * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import com.acharya.collegeeventmanagement.entity.Attendance;
+
+import java.time.LocalDateTime;
+
+public record AttendanceResponse(
+        Long id,
+        StudentSummary student,
+        EventSummary event,
+        LocalDateTime attendanceTime,
+        Boolean isPresent) {
+    
+    // Used by the projection queries in AttendanceRepository
+    public AttendanceResponse(Long id, LocalDateTime attendanceTime, Boolean isPresent,
+                              Long studentPk, String studentId, String firstName, String lastName,
+                              Long eventId, String eventName, LocalDateTime eventDate) {
+        this(id, new StudentSummary(studentPk, studentId, firstName, lastName),
+                new EventSummary(eventId, eventName, eventDate), attendanceTime, isPresent);
+    }
+    
+    // Must be called inside the transaction that loaded the attendance
+    public static AttendanceResponse from(Attendance attendance) {
+        return new AttendanceResponse(attendance.getId(), attendance.getAttendanceTime(),
+                attendance.getIsPresent(), attendance.getStudent().getId(),
+                attendance.getStudent().getStudentId(), attendance.getStudent().getFirstName(),
+                attendance.getStudent().getLastName(), attendance.getEvent().getId(),
+                attendance.getEvent().getName(), attendance.getEvent().getEventDate());
+    }
+}
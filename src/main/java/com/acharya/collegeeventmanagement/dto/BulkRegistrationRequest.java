@@ -0,0 +1,11 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record BulkRegistrationRequest(
+        @NotNull(message = "Event id is required") Long eventId,
+        @NotEmpty(message = "At least one student id is required") List<Long> studentIds) {
+}
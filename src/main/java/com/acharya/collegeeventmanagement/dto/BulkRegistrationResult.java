@@ -0,0 +1,22 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import java.util.List;
+
+public record BulkRegistrationResult(
+        Long eventId,
+        int requested,
+        int registered,
+        List<Outcome> outcomes) {
+    
+    public enum Status {
+        REGISTERED,
+        ALREADY_REGISTERED,
+        STUDENT_NOT_FOUND,
+        DUPLICATE_IN_REQUEST,
+        EVENT_FULL
+    }
+    
+    // One entry per submitted student id, in request order; registrationId is only set when REGISTERED
+    public record Outcome(Long studentId, Status status, Long registrationId) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import java.util.List;
+
+// One page of GET /api/changes. Rows are the current state of everything changed after the request's cursor,
+// up to and including cursor; pass cursor back as since for the next page. resyncRequired means deletes after
+// since are no longer retained: the page is empty, cursor is 0, and the client must reload from since=0.
+public record ChangeFeed(
+        long cursor,
+        boolean hasMore,
+        boolean resyncRequired,
+        List<EventResponse> events,
+        List<StudentResponse> students,
+        List<RegistrationResponse> registrations,
+        List<AttendanceResponse> attendance,
+        List<FeedbackResponse> feedback,
+        List<Deletion> deleted) {
+    
+    // entityType is EVENT, STUDENT, REGISTRATION, ATTENDANCE or FEEDBACK
+    public record Deletion(long changeSeq, String entityType, Long id) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import java.time.LocalDateTime;
+
+public record CheckInResult(
+        Long eventId,
+        Long studentId,
+        String rollNumber,
+        Status status,
+        LocalDateTime checkedInAt) {
+    
+    public enum Status {
+        CHECKED_IN,
+        ALREADY_CHECKED_IN
+    }
+}
@@ -0,0 +1,17 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import com.acharya.collegeeventmanagement.entity.College;
+
+public record CollegeResponse(
+        Long id,
+        String name,
+        String address,
+        String city,
+        String state,
+        String country) {
+    
+    public static CollegeResponse from(College college) {
+        return new CollegeResponse(college.getId(), college.getName(), college.getAddress(), college.getCity(),
+                college.getState(), college.getCountry());
+    }
+}
@@ -0,0 +1,5 @@
+package com.acharya.collegeeventmanagement.dto;
+
+// Parent reference embedded in event and student responses instead of the whole College graph
+public record CollegeSummary(Long id, String name) {
+}
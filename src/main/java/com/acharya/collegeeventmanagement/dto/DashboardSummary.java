@@ -0,0 +1,20 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Everything the dashboard shows, in one response; generatedAt tells how stale the cached copy is.
+// statistics and topEvents are null for USER accounts.
+public record DashboardSummary(
+        long totalColleges,
+        long totalStudents,
+        OverallStatistics statistics,
+        List<EventResponse> upcomingEvents,
+        List<EventPopularityReport> topEvents,
+        List<Activity> recentActivity,
+        LocalDateTime generatedAt) {
+    
+    // A registration, attendance record or feedback; type is REGISTRATION, ATTENDANCE, ABSENCE or FEEDBACK
+    public record Activity(String type, LocalDateTime timestamp, StudentSummary student, EventSummary event) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import java.time.LocalDateTime;
+
+public record EventPopularityReport(
+        Long eventId,
+        String eventName,
+        LocalDateTime eventDate,
+        Integer maxCapacity,
+        Integer currentRegistrations,
+        Long registrationCount,
+        Long attendanceCount,
+        Double averageRating,
+        Long feedbackCount,
+        Double popularityScore) {
+    
+    // Used by the report query; popularity score = registrations + attendance + average rating
+    public EventPopularityReport(Long eventId, String eventName, LocalDateTime eventDate, Integer maxCapacity,
+                                 Integer currentRegistrations, Long registrationCount, Long attendanceCount,
+                                 Long feedbackCount, Long ratingSum) {
+        this(eventId, eventName, eventDate, maxCapacity, currentRegistrations, registrationCount, attendanceCount,
+                averageRating(feedbackCount, ratingSum), feedbackCount,
+                registrationCount + attendanceCount + (feedbackCount > 0 ? (double) ratingSum / feedbackCount : 0.0));
+    }
+    
+    private static Double averageRating(Long feedbackCount, Long ratingSum) {
+        return feedbackCount > 0 ? (double) ratingSum / feedbackCount : null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import com.acharya.collegeeventmanagement.entity.Event;
+
+import java.time.LocalDateTime;
+
+public record EventResponse(
+        Long id,
+        String name,
+        String description,
+        LocalDateTime eventDate,
+        String location,
+        Integer maxCapacity,
+        Integer currentRegistrations,
+        String eventType,
+        Boolean isActive,
+        CollegeSummary college) {
+    
+    // Used by the projection queries in EventRepository
+    public EventResponse(Long id, String name, String description, LocalDateTime eventDate, String location,
+                         Integer maxCapacity, Integer currentRegistrations, String eventType, Boolean isActive,
+                         Long collegeId, String collegeName) {
+        this(id, name, description, eventDate, location, maxCapacity, currentRegistrations, eventType, isActive,
+                new CollegeSummary(collegeId, collegeName));
+    }
+    
+    public EventSummary summary() {
+        return new EventSummary(id, name, eventDate);
+    }
+    
+    // Must be called inside the transaction that loaded the event
+    public static EventResponse from(Event event) {
+        return new EventResponse(event.getId(), event.getName(), event.getDescription(), event.getEventDate(),
+                event.getLocation(), event.getMaxCapacity(), event.getCurrentRegistrations(), event.getEventType(),
+                event.getIsActive(), event.getCollege().getId(), event.getCollege().getName());
+    }
+}
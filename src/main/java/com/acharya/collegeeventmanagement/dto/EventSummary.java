@@ -0,0 +1,6 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import java.time.LocalDateTime;
+
+public record EventSummary(Long id, String name, LocalDateTime eventDate) {
+}
@@ -0,0 +1,30 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import com.acharya.collegeeventmanagement.entity.Feedback;
+
+import java.time.LocalDateTime;
+
+public record FeedbackResponse(
+        Long id,
+        StudentSummary student,
+        EventSummary event,
+        Integer rating,
+        String comment,
+        LocalDateTime feedbackDate) {
+    
+    // Used by the projection queries in FeedbackRepository
+    public FeedbackResponse(Long id, Integer rating, String comment, LocalDateTime feedbackDate,
+                            Long studentPk, String studentId, String firstName, String lastName,
+                            Long eventId, String eventName, LocalDateTime eventDate) {
+        this(id, new StudentSummary(studentPk, studentId, firstName, lastName),
+                new EventSummary(eventId, eventName, eventDate), rating, comment, feedbackDate);
+    }
+    
+    // Must be called inside the transaction that loaded the feedback
+    public static FeedbackResponse from(Feedback feedback) {
+        return new FeedbackResponse(feedback.getId(), feedback.getRating(), feedback.getComment(),
+                feedback.getFeedbackDate(), feedback.getStudent().getId(), feedback.getStudent().getStudentId(),
+                feedback.getStudent().getFirstName(), feedback.getStudent().getLastName(),
+                feedback.getEvent().getId(), feedback.getEvent().getName(), feedback.getEvent().getEventDate());
+    }
+}
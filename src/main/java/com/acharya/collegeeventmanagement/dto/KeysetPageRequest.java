@@ -0,0 +1,76 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// Keyset (seek) pagination over the primary key: every page is "WHERE id > :lastId ORDER BY id LIMIT n",
+// so deep pages cost the same as the first one
+public class KeysetPageRequest {
+    
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+    
+    private final Long lastId;
+    private final int size;
+    private final boolean descending;
+    
+    private KeysetPageRequest(Long lastId, int size, boolean descending) {
+        this.lastId = lastId;
+        this.size = size;
+        this.descending = descending;
+    }
+    
+    public static KeysetPageRequest of(String cursor, Integer size, String sort) {
+        int pageSize = size == null ? DEFAULT_SIZE : Math.min(Math.max(size, 1), MAX_SIZE);
+        
+        if (cursor == null || cursor.isBlank()) {
+            boolean descending = "desc".equalsIgnoreCase(sort);
+            if (!descending && sort != null && !"asc".equalsIgnoreCase(sort)) {
+                throw new IllegalArgumentException("Invalid sort. Must be asc or desc");
+            }
+            return new KeysetPageRequest(null, pageSize, descending);
+        }
+        
+        // The cursor carries its own direction so a page can't be continued in the wrong order
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            return new KeysetPageRequest(Long.parseLong(parts[1]), pageSize, "desc".equals(parts[0]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+    
+    public boolean isDescending() {
+        return descending;
+    }
+    
+    // Lower (ascending) or upper (descending) exclusive bound for the id column
+    public Long getAnchorId() {
+        if (lastId != null) {
+            return lastId;
+        }
+        return descending ? Long.MAX_VALUE : 0L;
+    }
+    
+    // One extra row is fetched to know whether another page exists
+    public Pageable toPageable() {
+        return PageRequest.of(0, size + 1, Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, "id"));
+    }
+    
+    public <T> CursorPage<T> toPage(List<T> rows, Function<T, Long> idExtractor) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null, rows.size());
+        }
+        List<T> items = rows.subList(0, size);
+        Long nextLastId = idExtractor.apply(items.get(size - 1));
+        String token = (descending ? "desc" : "asc") + ":" + nextLastId;
+        String nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+        return new CursorPage<>(items, nextCursor, size);
+    }
+}
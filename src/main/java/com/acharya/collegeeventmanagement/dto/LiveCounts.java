@@ -0,0 +1,11 @@
+package com.acharya.collegeeventmanagement.dto;
+
+// One "counts" message on GET /api/events/{id}/live-counts. The deltas are relative to the previous message sent
+// to the same subscriber (zero on the first), so several commits between two messages arrive as one change.
+public record LiveCounts(
+        Long eventId,
+        long registrationCount,
+        long attendanceCount,
+        long registrationDelta,
+        long attendanceDelta) {
+}
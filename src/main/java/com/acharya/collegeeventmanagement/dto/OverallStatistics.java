@@ -0,0 +1,10 @@
+package com.acharya.collegeeventmanagement.dto;
+
+// Totals behind GET /api/reports/statistics and the dashboard; averageAttendanceRate is a percentage
+public record OverallStatistics(
+        long totalEvents,
+        long totalRegistrations,
+        long totalAttendances,
+        long totalFeedbacks,
+        double averageAttendanceRate) {
+}
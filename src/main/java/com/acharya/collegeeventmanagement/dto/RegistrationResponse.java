@@ -0,0 +1,30 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import com.acharya.collegeeventmanagement.entity.Registration;
+
+import java.time.LocalDateTime;
+
+public record RegistrationResponse(
+        Long id,
+        StudentSummary student,
+        EventSummary event,
+        LocalDateTime registrationDate,
+        Boolean isConfirmed) {
+    
+    // Used by the projection queries in RegistrationRepository
+    public RegistrationResponse(Long id, LocalDateTime registrationDate, Boolean isConfirmed,
+                                Long studentPk, String studentId, String firstName, String lastName,
+                                Long eventId, String eventName, LocalDateTime eventDate) {
+        this(id, new StudentSummary(studentPk, studentId, firstName, lastName),
+                new EventSummary(eventId, eventName, eventDate), registrationDate, isConfirmed);
+    }
+    
+    // Must be called inside the transaction that loaded the registration
+    public static RegistrationResponse from(Registration registration) {
+        return new RegistrationResponse(registration.getId(), registration.getRegistrationDate(),
+                registration.getIsConfirmed(), registration.getStudent().getId(),
+                registration.getStudent().getStudentId(), registration.getStudent().getFirstName(),
+                registration.getStudent().getLastName(), registration.getEvent().getId(),
+                registration.getEvent().getName(), registration.getEvent().getEventDate());
+    }
+}
@@ -0,0 +1,32 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import java.time.LocalDateTime;
+
+public record RegistrationTicket(
+        String ticketId,
+        Status status,
+        Long studentId,
+        Long eventId,
+        Long registrationId,
+        String error,
+        LocalDateTime submittedAt,
+        LocalDateTime completedAt) {
+    
+    public enum Status {
+        QUEUED,
+        REGISTERED,
+        FAILED
+    }
+    
+    public static RegistrationTicket queued(String ticketId, Long studentId, Long eventId) {
+        return new RegistrationTicket(ticketId, Status.QUEUED, studentId, eventId, null, null, LocalDateTime.now(), null);
+    }
+    
+    public RegistrationTicket registered(Long registrationId) {
+        return new RegistrationTicket(ticketId, Status.REGISTERED, studentId, eventId, registrationId, null, submittedAt, LocalDateTime.now());
+    }
+    
+    public RegistrationTicket failed(String error) {
+        return new RegistrationTicket(ticketId, Status.FAILED, studentId, eventId, null, error, submittedAt, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,14 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import java.util.List;
+
+public record StudentImportResult(
+        int rows,
+        int imported,
+        int rejected,
+        List<RowError> errors) {
+    
+    // line is where the row starts in the file (the header is line 1); studentId is null when the row has none
+    public record RowError(long line, String studentId, String error) {
+    }
+}
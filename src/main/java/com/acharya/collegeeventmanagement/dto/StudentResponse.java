@@ -0,0 +1,34 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import com.acharya.collegeeventmanagement.entity.Student;
+
+public record StudentResponse(
+        Long id,
+        String studentId,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        String department,
+        String yearOfStudy,
+        CollegeSummary college) {
+    
+    // Used by the projection queries in StudentRepository
+    public StudentResponse(Long id, String studentId, String firstName, String lastName, String email,
+                           String phoneNumber, String department, String yearOfStudy,
+                           Long collegeId, String collegeName) {
+        this(id, studentId, firstName, lastName, email, phoneNumber, department, yearOfStudy,
+                new CollegeSummary(collegeId, collegeName));
+    }
+    
+    public StudentSummary summary() {
+        return new StudentSummary(id, studentId, firstName, lastName);
+    }
+    
+    // Must be called inside the transaction that loaded the student
+    public static StudentResponse from(Student student) {
+        return new StudentResponse(student.getId(), student.getStudentId(), student.getFirstName(),
+                student.getLastName(), student.getEmail(), student.getPhoneNumber(), student.getDepartment(),
+                student.getYearOfStudy(), student.getCollege().getId(), student.getCollege().getName());
+    }
+}
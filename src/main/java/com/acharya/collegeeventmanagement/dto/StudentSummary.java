@@ -0,0 +1,4 @@
+package com.acharya.collegeeventmanagement.dto;
+
+public record StudentSummary(Long id, String studentId, String firstName, String lastName) {
+}
@@ -0,0 +1,20 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import com.acharya.collegeeventmanagement.entity.Role;
+import com.acharya.collegeeventmanagement.entity.User;
+
+// Never carries the password hash
+public record UserResponse(
+        Long id,
+        String username,
+        String email,
+        String firstName,
+        String lastName,
+        Role role,
+        Boolean isActive) {
+    
+    public static UserResponse from(User user) {
+        return new UserResponse(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(),
+                user.getLastName(), user.getRole(), user.getIsActive());
+    }
+}
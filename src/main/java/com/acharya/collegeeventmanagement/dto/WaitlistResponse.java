@@ -0,0 +1,33 @@
+package com.acharya.collegeeventmanagement.dto;
+
+import com.acharya.collegeeventmanagement.entity.WaitlistEntry;
+
+import java.time.LocalDateTime;
+
+public record WaitlistResponse(
+        Long id,
+        StudentSummary student,
+        EventSummary event,
+        Long position,
+        LocalDateTime joinedAt) {
+    
+    // Used by the projection queries in WaitlistEntryRepository; the position is filled in by the service
+    public WaitlistResponse(Long id, LocalDateTime joinedAt,
+                            Long studentPk, String studentId, String firstName, String lastName,
+                            Long eventId, String eventName, LocalDateTime eventDate) {
+        this(id, new StudentSummary(studentPk, studentId, firstName, lastName),
+                new EventSummary(eventId, eventName, eventDate), null, joinedAt);
+    }
+    
+    // Must be called inside the transaction that loaded the entry
+    public static WaitlistResponse from(WaitlistEntry entry, long position) {
+        return new WaitlistResponse(entry.getId(), entry.getJoinedAt(), entry.getStudent().getId(),
+                entry.getStudent().getStudentId(), entry.getStudent().getFirstName(),
+                entry.getStudent().getLastName(), entry.getEvent().getId(), entry.getEvent().getName(),
+                entry.getEvent().getEventDate()).withPosition(position);
+    }
+    
+    public WaitlistResponse withPosition(long position) {
+        return new WaitlistResponse(id, student, event, position, joinedAt);
+    }
+}
@@ -29,6 +29,10 @@ public class Attendance {
     @Column(nullable = false)
     private Boolean isPresent = true;
     
+    // Maintained by the change-feed triggers, as for Event.changeSeq
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+    
     // Constructors
     public Attendance() {}
     
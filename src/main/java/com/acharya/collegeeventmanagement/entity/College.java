@@ -3,12 +3,15 @@ package com.acharya.collegeeventmanagement.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "colleges")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "colleges")
 public class College {
     
     @Id
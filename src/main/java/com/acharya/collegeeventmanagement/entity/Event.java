@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,6 +13,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "events")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 public class Event {
     
     @Id
@@ -51,6 +54,11 @@ public class Event {
     @Column(nullable = false)
     private Boolean isActive = true;
     
+    // Stamped by database triggers on every insert and update (V2__change_feed.sql) and only read by the change
+    // feed queries; loaded entities may hold a stale value
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "college_id", nullable = false)
     private College college;
@@ -64,6 +72,9 @@ public class Event {
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Feedback> feedbacks = new ArrayList<>();
     
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private List<WaitlistEntry> waitlistEntries = new ArrayList<>();
+    
     // Constructors
     public Event() {}
     
@@ -183,6 +194,14 @@ public class Event {
         this.feedbacks = feedbacks;
     }
     
+    public List<WaitlistEntry> getWaitlistEntries() {
+        return waitlistEntries;
+    }
+    
+    public void setWaitlistEntries(List<WaitlistEntry> waitlistEntries) {
+        this.waitlistEntries = waitlistEntries;
+    }
+    
     @Override
     public String toString() {
         return "Event{" +
@@ -0,0 +1,142 @@
+package com.acharya.collegeeventmanagement.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "event_statistics")
+public class EventStatistics {
+    
+    @Id
+    private Long eventId;
+    
+    @Column(nullable = false)
+    private Long registrationCount = 0L;
+    
+    @Column(nullable = false)
+    private Long presentCount = 0L;
+    
+    @Column(nullable = false)
+    private Long feedbackCount = 0L;
+    
+    @Column(nullable = false)
+    private Long ratingSum = 0L;
+    
+    // Rating histogram
+    @Column(nullable = false)
+    private Long oneStarCount = 0L;
+    
+    @Column(nullable = false)
+    private Long twoStarCount = 0L;
+    
+    @Column(nullable = false)
+    private Long threeStarCount = 0L;
+    
+    @Column(nullable = false)
+    private Long fourStarCount = 0L;
+    
+    @Column(nullable = false)
+    private Long fiveStarCount = 0L;
+    
+    // Constructors
+    public EventStatistics() {}
+    
+    public EventStatistics(Long eventId) {
+        this.eventId = eventId;
+    }
+    
+    public Double getAverageRating() {
+        return feedbackCount > 0 ? (double) ratingSum / feedbackCount : null;
+    }
+    
+    // Getters and Setters
+    public Long getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+    
+    public Long getRegistrationCount() {
+        return registrationCount;
+    }
+    
+    public void setRegistrationCount(Long registrationCount) {
+        this.registrationCount = registrationCount;
+    }
+    
+    public Long getPresentCount() {
+        return presentCount;
+    }
+    
+    public void setPresentCount(Long presentCount) {
+        this.presentCount = presentCount;
+    }
+    
+    public Long getFeedbackCount() {
+        return feedbackCount;
+    }
+    
+    public void setFeedbackCount(Long feedbackCount) {
+        this.feedbackCount = feedbackCount;
+    }
+    
+    public Long getRatingSum() {
+        return ratingSum;
+    }
+    
+    public void setRatingSum(Long ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+    
+    public Long getOneStarCount() {
+        return oneStarCount;
+    }
+    
+    public void setOneStarCount(Long oneStarCount) {
+        this.oneStarCount = oneStarCount;
+    }
+    
+    public Long getTwoStarCount() {
+        return twoStarCount;
+    }
+    
+    public void setTwoStarCount(Long twoStarCount) {
+        this.twoStarCount = twoStarCount;
+    }
+    
+    public Long getThreeStarCount() {
+        return threeStarCount;
+    }
+    
+    public void setThreeStarCount(Long threeStarCount) {
+        this.threeStarCount = threeStarCount;
+    }
+    
+    public Long getFourStarCount() {
+        return fourStarCount;
+    }
+    
+    public void setFourStarCount(Long fourStarCount) {
+        this.fourStarCount = fourStarCount;
+    }
+    
+    public Long getFiveStarCount() {
+        return fiveStarCount;
+    }
+    
+    public void setFiveStarCount(Long fiveStarCount) {
+        this.fiveStarCount = fiveStarCount;
+    }
+    
+    @Override
+    public String toString() {
+        return "EventStatistics{" +
+                "eventId=" + eventId +
+                ", registrationCount=" + registrationCount +
+                ", presentCount=" + presentCount +
+                ", feedbackCount=" + feedbackCount +
+                ", ratingSum=" + ratingSum +
+                '}';
+    }
+}
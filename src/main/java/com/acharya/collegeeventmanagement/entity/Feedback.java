@@ -41,6 +41,10 @@ public class Feedback {
     @Column(nullable = false)
     private LocalDateTime feedbackDate;
     
+    // Maintained by the change-feed triggers, as for Event.changeSeq
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+    
     // Constructors
     public Feedback() {}
     
@@ -2,6 +2,8 @@ package com.acharya.collegeeventmanagement.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.id.IncrementGenerator;
 
 import java.time.LocalDateTime;
 
@@ -9,8 +11,12 @@ import java.time.LocalDateTime;
 @Table(name = "registrations")
 public class Registration {
     
+    // Ids are assigned in memory (seeded from MAX(id) on first use) so inserts can be JDBC-batched;
+    // IDENTITY forces Hibernate to execute every insert on its own to read the key back. This is safe
+    // because the SQLite file is only ever written by this one application instance.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "registration_id")
+    @GenericGenerator(name = "registration_id", type = IncrementGenerator.class)
     private Long id;
     
     @NotNull(message = "Student is required")
@@ -29,6 +35,10 @@ public class Registration {
     @Column(nullable = false)
     private Boolean isConfirmed = true;
     
+    // Maintained by the change-feed triggers, as for Event.changeSeq
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+    
     // Constructors
     public Registration() {}
     
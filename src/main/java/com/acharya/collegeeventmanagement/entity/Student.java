@@ -52,6 +52,10 @@ public class Student {
     @Column(nullable = false)
     private String yearOfStudy;
     
+    // Maintained by the change-feed triggers, as for Event.changeSeq
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "college_id", nullable = false)
     private College college;
@@ -65,6 +69,9 @@ public class Student {
     @OneToMany(mappedBy = "student", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Feedback> feedbacks = new ArrayList<>();
     
+    @OneToMany(mappedBy = "student", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private List<WaitlistEntry> waitlistEntries = new ArrayList<>();
+    
     // Constructors
     public Student() {}
     
@@ -177,6 +184,14 @@ public class Student {
         this.feedbacks = feedbacks;
     }
     
+    public List<WaitlistEntry> getWaitlistEntries() {
+        return waitlistEntries;
+    }
+    
+    public void setWaitlistEntries(List<WaitlistEntry> waitlistEntries) {
+        this.waitlistEntries = waitlistEntries;
+    }
+    
     @Override
     public String toString() {
         return "Student{" +
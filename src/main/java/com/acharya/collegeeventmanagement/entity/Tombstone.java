@@ -0,0 +1,36 @@
+package com.acharya.collegeeventmanagement.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+// Left behind by the change-feed delete triggers (V2__change_feed.sql); never written by the application
+@Entity
+@Table(name = "tombstones")
+@Immutable
+public class Tombstone {
+    
+    @Id
+    private Long changeSeq;
+    
+    @Column(nullable = false)
+    private String entityType;
+    
+    @Column(nullable = false)
+    private Long entityId;
+    
+    // Constructors
+    public Tombstone() {}
+    
+    // Getters
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+    
+    public String getEntityType() {
+        return entityType;
+    }
+    
+    public Long getEntityId() {
+        return entityId;
+    }
+}
@@ -0,0 +1,94 @@
+package com.acharya.collegeeventmanagement.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "waitlist_entries")
+public class WaitlistEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @NotNull(message = "Student is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+    
+    @NotNull(message = "Event is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+    
+    // One past the highest queue number for the event when joining, so promotion and leaving never renumber anyone
+    @Column(nullable = false)
+    private Long queueNumber;
+    
+    @Column(nullable = false)
+    private LocalDateTime joinedAt;
+    
+    // Constructors
+    public WaitlistEntry() {}
+    
+    public WaitlistEntry(Student student, Event event, Long queueNumber) {
+        this.student = student;
+        this.event = event;
+        this.queueNumber = queueNumber;
+        this.joinedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Student getStudent() {
+        return student;
+    }
+    
+    public void setStudent(Student student) {
+        this.student = student;
+    }
+    
+    public Event getEvent() {
+        return event;
+    }
+    
+    public void setEvent(Event event) {
+        this.event = event;
+    }
+    
+    public Long getQueueNumber() {
+        return queueNumber;
+    }
+    
+    public void setQueueNumber(Long queueNumber) {
+        this.queueNumber = queueNumber;
+    }
+    
+    public LocalDateTime getJoinedAt() {
+        return joinedAt;
+    }
+    
+    public void setJoinedAt(LocalDateTime joinedAt) {
+        this.joinedAt = joinedAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "WaitlistEntry{" +
+                "id=" + id +
+                ", student=" + (student != null ? student.getStudentId() : "null") +
+                ", event=" + (event != null ? event.getName() : "null") +
+                ", queueNumber=" + queueNumber +
+                ", joinedAt=" + joinedAt +
+                '}';
+    }
+}
@@ -0,0 +1,10 @@
+package com.acharya.collegeeventmanagement.exception;
+
+// A request the services reject (unknown id, duplicate, inactive event, full capacity); controllers answer 400 with
+// the message. Anything else, such as DatabaseBusyException, passes through to GlobalExceptionHandler.
+public class BadRequestException extends RuntimeException {
+    
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.acharya.collegeeventmanagement.exception;
+
+// Thrown when SQLite stayed locked through every retry; answered with 503 so clients retry later
+public class DatabaseBusyException extends RuntimeException {
+    
+    public DatabaseBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,6 @@
 package com.acharya.collegeeventmanagement.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -22,6 +23,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
     
+    @ExceptionHandler(DatabaseBusyException.class)
+    public ResponseEntity<Map<String, Object>> handleDatabaseBusy(DatabaseBusyException ex) {
+        Map<String, Object> error = Map.of(
+            "error", "Service Unavailable",
+            "message", ex.getMessage(),
+            "status", HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+    }
+    
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequests(TooManyRequestsException ex) {
+        Map<String, Object> error = Map.of(
+            "error", "Too Many Requests",
+            "message", ex.getMessage(),
+            "status", HttpStatus.TOO_MANY_REQUESTS.value()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+    }
+    
+    @ExceptionHandler(WriteNotConfirmedException.class)
+    public ResponseEntity<Map<String, Object>> handleWriteNotConfirmed(WriteNotConfirmedException ex) {
+        Map<String, Object> error = Map.of(
+            "error", "Write Not Confirmed",
+            "message", ex.getMessage(),
+            "status", HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+    
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException ex) {
         Map<String, Object> error = Map.of(
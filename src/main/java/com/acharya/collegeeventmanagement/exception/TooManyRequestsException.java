@@ -0,0 +1,9 @@
+package com.acharya.collegeeventmanagement.exception;
+
+// Thrown when a bounded queue refuses work; answered with 429 and Retry-After so clients back off and retry
+public class TooManyRequestsException extends RuntimeException {
+    
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
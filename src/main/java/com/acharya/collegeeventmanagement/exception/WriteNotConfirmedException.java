@@ -0,0 +1,10 @@
+package com.acharya.collegeeventmanagement.exception;
+
+// Thrown when a write was queued but not confirmed in time; it may still commit, so GlobalExceptionHandler answers
+// 503 without Retry-After and clients check the outcome before sending the change again
+public class WriteNotConfirmedException extends RuntimeException {
+    
+    public WriteNotConfirmedException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,8 @@
 package com.acharya.collegeeventmanagement.repository;
 
+import com.acharya.collegeeventmanagement.dto.AttendanceResponse;
 import com.acharya.collegeeventmanagement.entity.Attendance;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,24 +10,56 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     
-    List<Attendance> findByEventId(Long eventId);
+    // Response projection: flat row with the student and event columns the client shows
+    String ATTENDANCE_RESPONSE = "SELECT new com.acharya.collegeeventmanagement.dto.AttendanceResponse(" +
+            "a.id, a.attendanceTime, a.isPresent, s.id, s.studentId, s.firstName, s.lastName, e.id, e.name, e.eventDate) " +
+            "FROM Attendance a JOIN a.student s JOIN a.event e ";
     
-    List<Attendance> findByStudentId(Long studentId);
+    // Keyset pagination: callers pass a Pageable sorted by id
+    @Query(ATTENDANCE_RESPONSE + "WHERE a.id > :id")
+    List<AttendanceResponse> findResponsesByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+    
+    @Query(ATTENDANCE_RESPONSE + "WHERE a.id < :id")
+    List<AttendanceResponse> findResponsesByIdLessThan(@Param("id") Long id, Pageable pageable);
+    
+    @Query(ATTENDANCE_RESPONSE + "WHERE s.id = :studentId")
+    List<AttendanceResponse> findResponsesByStudentId(@Param("studentId") Long studentId);
+    
+    @Query(ATTENDANCE_RESPONSE + "WHERE s.id = :studentId AND e.id = :eventId")
+    Optional<AttendanceResponse> findResponseByStudentIdAndEventId(@Param("studentId") Long studentId, @Param("eventId") Long eventId);
+    
+    @Query(ATTENDANCE_RESPONSE + "WHERE e.id = :eventId")
+    List<AttendanceResponse> findResponsesByEventId(@Param("eventId") Long eventId);
     
     Optional<Attendance> findByStudentIdAndEventId(Long studentId, Long eventId);
     
     boolean existsByStudentIdAndEventId(Long studentId, Long eventId);
     
+    @Query("SELECT a.student.id FROM Attendance a WHERE a.event.id = :eventId AND a.isPresent = true")
+    List<Long> findPresentStudentIdsByEventId(@Param("eventId") Long eventId);
+    
     @Query("SELECT COUNT(a) FROM Attendance a WHERE a.event.id = :eventId AND a.isPresent = true")
     Long countPresentAttendancesByEventId(@Param("eventId") Long eventId);
     
-    @Query("SELECT a FROM Attendance a WHERE a.event.id = :eventId AND a.isPresent = true")
-    List<Attendance> findPresentAttendancesByEventId(@Param("eventId") Long eventId);
+    @Query(ATTENDANCE_RESPONSE + "WHERE e.id = :eventId AND a.isPresent = true")
+    List<AttendanceResponse> findPresentResponsesByEventId(@Param("eventId") Long eventId);
+    
+    @Query(ATTENDANCE_RESPONSE + "WHERE s.id = :studentId AND a.isPresent = true")
+    List<AttendanceResponse> findPresentResponsesByStudentId(@Param("studentId") Long studentId);
+    
+    // Forward-only cursor for exports: rows are read while the response is written, never collected in a list
+    @Query(ATTENDANCE_RESPONSE + "WHERE e.id = :eventId ORDER BY a.id")
+    Stream<AttendanceResponse> streamResponsesByEventId(@Param("eventId") Long eventId);
+    
+    // Change feed, as in EventRepository
+    @Query("SELECT a.changeSeq FROM Attendance a WHERE a.changeSeq > :since ORDER BY a.changeSeq")
+    List<Long> findChangeSeqsAfter(@Param("since") Long since, Pageable pageable);
     
-    @Query("SELECT a FROM Attendance a WHERE a.student.id = :studentId AND a.isPresent = true")
-    List<Attendance> findPresentAttendancesByStudentId(@Param("studentId") Long studentId);
+    @Query(ATTENDANCE_RESPONSE + "WHERE a.changeSeq > :since AND a.changeSeq <= :until ORDER BY a.changeSeq")
+    List<AttendanceResponse> findResponsesChangedBetween(@Param("since") Long since, @Param("until") Long until);
 }
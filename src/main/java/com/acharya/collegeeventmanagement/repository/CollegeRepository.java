@@ -1,9 +1,16 @@
 package com.acharya.collegeeventmanagement.repository;
 
+import com.acharya.collegeeventmanagement.dto.CollegeResponse;
 import com.acharya.collegeeventmanagement.entity.College;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +19,18 @@ public interface CollegeRepository extends JpaRepository<College, Long> {
     Optional<College> findByName(String name);
     
     boolean existsByName(String name);
+    
+    // Response projection: college columns only, never the student and event collections
+    String COLLEGE_RESPONSE = "SELECT new com.acharya.collegeeventmanagement.dto.CollegeResponse(" +
+            "c.id, c.name, c.address, c.city, c.state, c.country) FROM College c ";
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(COLLEGE_RESPONSE + "ORDER BY c.id")
+    List<CollegeResponse> findAllResponses();
+    
+    @Query(COLLEGE_RESPONSE + "WHERE c.id = :id")
+    Optional<CollegeResponse> findResponseById(@Param("id") Long id);
+    
+    @Query(COLLEGE_RESPONSE + "WHERE c.name = :name")
+    Optional<CollegeResponse> findResponseByName(@Param("name") String name);
 }
@@ -1,29 +1,126 @@
 package com.acharya.collegeeventmanagement.repository;
 
+import com.acharya.collegeeventmanagement.dto.AttendanceReport;
+import com.acharya.collegeeventmanagement.dto.EventPopularityReport;
+import com.acharya.collegeeventmanagement.dto.EventResponse;
 import com.acharya.collegeeventmanagement.entity.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
     
-    List<Event> findByCollegeId(Long collegeId);
+    // Response projection: one row per event with its college name, never the child collections
+    String EVENT_RESPONSE = "SELECT new com.acharya.collegeeventmanagement.dto.EventResponse(" +
+            "e.id, e.name, e.description, e.eventDate, e.location, e.maxCapacity, e.currentRegistrations, " +
+            "e.eventType, e.isActive, c.id, c.name) FROM Event e JOIN e.college c ";
     
-    List<Event> findByIsActiveTrue();
+    // Counts come from the incrementally maintained event_statistics rows, so reports never scan child tables
+    String POPULARITY_REPORT = "SELECT new com.acharya.collegeeventmanagement.dto.EventPopularityReport(" +
+            "e.id, e.name, e.eventDate, e.maxCapacity, e.currentRegistrations, " +
+            "COALESCE(s.registrationCount, 0L), COALESCE(s.presentCount, 0L), " +
+            "COALESCE(s.feedbackCount, 0L), COALESCE(s.ratingSum, 0L)) " +
+            "FROM Event e LEFT JOIN EventStatistics s ON s.eventId = e.id ";
     
-    List<Event> findByEventType(String eventType);
+    String ATTENDANCE_REPORT = "SELECT new com.acharya.collegeeventmanagement.dto.AttendanceReport(" +
+            "e.id, e.name, e.eventDate, COALESCE(s.registrationCount, 0L), COALESCE(s.presentCount, 0L)) " +
+            "FROM Event e LEFT JOIN EventStatistics s ON s.eventId = e.id ";
     
-    @Query("SELECT e FROM Event e WHERE e.eventDate >= :startDate AND e.eventDate <= :endDate")
-    List<Event> findEventsByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    // Keyset pagination: callers pass a Pageable sorted by id
+    @Query(EVENT_RESPONSE + "WHERE e.id > :id")
+    List<EventResponse> findResponsesByIdGreaterThan(@Param("id") Long id, Pageable pageable);
     
-    @Query("SELECT e FROM Event e WHERE e.name LIKE %:name% OR e.description LIKE %:description%")
-    List<Event> findByNameOrDescriptionContaining(@Param("name") String name, @Param("description") String description);
+    @Query(EVENT_RESPONSE + "WHERE e.id < :id")
+    List<EventResponse> findResponsesByIdLessThan(@Param("id") Long id, Pageable pageable);
     
-    @Query("SELECT e FROM Event e WHERE e.currentRegistrations < e.maxCapacity AND e.isActive = true")
-    List<Event> findAvailableEvents();
+    @Query(EVENT_RESPONSE + "WHERE e.id = :id")
+    Optional<EventResponse> findResponseById(@Param("id") Long id);
+    
+    @Query(EVENT_RESPONSE + "WHERE e.id IN :ids")
+    List<EventResponse> findResponsesByIdIn(@Param("ids") List<Long> ids);
+    
+    @Query(EVENT_RESPONSE + "WHERE c.id = :collegeId")
+    List<EventResponse> findResponsesByCollegeId(@Param("collegeId") Long collegeId);
+    
+    // Catalog queries are served from the Hibernate query cache until the events table changes
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(EVENT_RESPONSE + "WHERE e.isActive = true")
+    List<EventResponse> findActiveResponses();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(EVENT_RESPONSE + "WHERE e.eventType = :eventType")
+    List<EventResponse> findResponsesByEventType(@Param("eventType") String eventType);
+    
+    @Query(EVENT_RESPONSE + "WHERE e.eventDate >= :startDate AND e.eventDate <= :endDate")
+    List<EventResponse> findResponsesByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(EVENT_RESPONSE + "WHERE e.currentRegistrations < e.maxCapacity AND e.isActive = true")
+    List<EventResponse> findAvailableResponses();
+    
+    // Soonest first, served by the event_date index; callers pass the page size
+    @Query(EVENT_RESPONSE + "WHERE e.isActive = true AND e.eventDate >= :from ORDER BY e.eventDate, e.id")
+    List<EventResponse> findUpcomingResponses(@Param("from") LocalDateTime from, Pageable pageable);
+    
+    // Capacity check and increment happen in one conditional UPDATE so concurrent registrations cannot overbook
+    @Modifying
+    @Query("UPDATE Event e SET e.currentRegistrations = e.currentRegistrations + 1 " +
+           "WHERE e.id = :eventId AND e.isActive = true AND e.currentRegistrations < e.maxCapacity")
+    int reserveSeat(@Param("eventId") Long eventId);
+    
+    // Read straight from the table (not the cached event) right before reserveSeats; empty for an inactive event
+    @Query("SELECT e.maxCapacity - e.currentRegistrations FROM Event e WHERE e.id = :eventId AND e.isActive = true")
+    Optional<Integer> findFreeSeats(@Param("eventId") Long eventId);
+    
+    // Bulk variant: all-or-nothing reservation of several seats at once
+    @Modifying
+    @Query("UPDATE Event e SET e.currentRegistrations = e.currentRegistrations + :seats " +
+           "WHERE e.id = :eventId AND e.isActive = true AND e.currentRegistrations + :seats <= e.maxCapacity")
+    int reserveSeats(@Param("eventId") Long eventId, @Param("seats") int seats);
+    
+    @Modifying
+    @Query("UPDATE Event e SET e.currentRegistrations = e.currentRegistrations - 1 " +
+           "WHERE e.id = :eventId AND e.currentRegistrations > 0")
+    int releaseSeat(@Param("eventId") Long eventId);
+    
+    @Query(POPULARITY_REPORT)
+    List<EventPopularityReport> findEventPopularityReport();
+    
+    // Highest popularity score first (same formula as EventPopularityReport), so only the top rows are built
+    @Query(POPULARITY_REPORT + "ORDER BY COALESCE(s.registrationCount, 0L) + COALESCE(s.presentCount, 0L) + " +
+           "CASE WHEN s.feedbackCount > 0 THEN s.ratingSum * 1.0 / s.feedbackCount ELSE 0.0 END DESC, e.id")
+    List<EventPopularityReport> findTopEventPopularity(Pageable pageable);
+    
+    @Query(ATTENDANCE_REPORT)
+    List<AttendanceReport> findAttendanceReports();
+    
+    @Query(ATTENDANCE_REPORT + "WHERE e.id = :eventId")
+    Optional<AttendanceReport> findAttendanceReportByEventId(@Param("eventId") Long eventId);
+    
+    // Forward-only cursors for the report exports, in event id order
+    @Query(POPULARITY_REPORT + "ORDER BY e.id")
+    Stream<EventPopularityReport> streamEventPopularityReport();
+    
+    @Query(ATTENDANCE_REPORT + "ORDER BY e.id")
+    Stream<AttendanceReport> streamAttendanceReports();
+    
+    // Change feed (ChangeFeedService): the sequence numbers after a cursor, to find where a page ends,
+    // then the rows up to that point
+    @Query("SELECT e.changeSeq FROM Event e WHERE e.changeSeq > :since ORDER BY e.changeSeq")
+    List<Long> findChangeSeqsAfter(@Param("since") Long since, Pageable pageable);
+    
+    @Query(EVENT_RESPONSE + "WHERE e.changeSeq > :since AND e.changeSeq <= :until ORDER BY e.changeSeq")
+    List<EventResponse> findResponsesChangedBetween(@Param("since") Long since, @Param("until") Long until);
 }
@@ -0,0 +1,88 @@
+package com.acharya.collegeeventmanagement.repository;
+
+import com.acharya.collegeeventmanagement.entity.EventStatistics;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EventStatisticsRepository extends JpaRepository<EventStatistics, Long> {
+    
+    @Modifying
+    @Query("UPDATE EventStatistics s SET s.registrationCount = s.registrationCount + :delta WHERE s.eventId = :eventId")
+    int adjustRegistrationCount(@Param("eventId") Long eventId, @Param("delta") long delta);
+    
+    @Modifying
+    @Query("UPDATE EventStatistics s SET s.presentCount = s.presentCount + :delta WHERE s.eventId = :eventId")
+    int adjustPresentCount(@Param("eventId") Long eventId, @Param("delta") long delta);
+    
+    @Modifying
+    @Query("UPDATE EventStatistics s SET " +
+           "s.feedbackCount = s.feedbackCount + :delta, " +
+           "s.ratingSum = s.ratingSum + :ratingDelta, " +
+           "s.oneStarCount = s.oneStarCount + CASE WHEN :rating = 1 THEN :delta ELSE 0L END, " +
+           "s.twoStarCount = s.twoStarCount + CASE WHEN :rating = 2 THEN :delta ELSE 0L END, " +
+           "s.threeStarCount = s.threeStarCount + CASE WHEN :rating = 3 THEN :delta ELSE 0L END, " +
+           "s.fourStarCount = s.fourStarCount + CASE WHEN :rating = 4 THEN :delta ELSE 0L END, " +
+           "s.fiveStarCount = s.fiveStarCount + CASE WHEN :rating = 5 THEN :delta ELSE 0L END " +
+           "WHERE s.eventId = :eventId")
+    int adjustFeedback(@Param("eventId") Long eventId, @Param("rating") int rating,
+                       @Param("delta") long delta, @Param("ratingDelta") long ratingDelta);
+    
+    // A changed rating moves one feedback between histogram buckets; the feedback count stays the same
+    @Modifying
+    @Query("UPDATE EventStatistics s SET " +
+           "s.ratingSum = s.ratingSum + :ratingDelta, " +
+           "s.oneStarCount = s.oneStarCount + CASE WHEN :newRating = 1 THEN 1L ELSE 0L END - CASE WHEN :oldRating = 1 THEN 1L ELSE 0L END, " +
+           "s.twoStarCount = s.twoStarCount + CASE WHEN :newRating = 2 THEN 1L ELSE 0L END - CASE WHEN :oldRating = 2 THEN 1L ELSE 0L END, " +
+           "s.threeStarCount = s.threeStarCount + CASE WHEN :newRating = 3 THEN 1L ELSE 0L END - CASE WHEN :oldRating = 3 THEN 1L ELSE 0L END, " +
+           "s.fourStarCount = s.fourStarCount + CASE WHEN :newRating = 4 THEN 1L ELSE 0L END - CASE WHEN :oldRating = 4 THEN 1L ELSE 0L END, " +
+           "s.fiveStarCount = s.fiveStarCount + CASE WHEN :newRating = 5 THEN 1L ELSE 0L END - CASE WHEN :oldRating = 5 THEN 1L ELSE 0L END " +
+           "WHERE s.eventId = :eventId")
+    int changeFeedbackRating(@Param("eventId") Long eventId, @Param("oldRating") int oldRating,
+                             @Param("newRating") int newRating, @Param("ratingDelta") long ratingDelta);
+    
+    @Query("SELECT COALESCE(SUM(s.feedbackCount), 0) FROM EventStatistics s")
+    Long sumFeedbackCount();
+    
+    @Query(value = "SELECT event_id FROM registrations WHERE student_id = :studentId " +
+                   "UNION SELECT event_id FROM attendances WHERE student_id = :studentId " +
+                   "UNION SELECT event_id FROM feedbacks WHERE student_id = :studentId", nativeQuery = true)
+    List<Long> findEventIdsByStudentId(@Param("studentId") Long studentId);
+    
+    // Native writes name the table they touch; without it Hibernate clears every second-level cache region
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_statistics"))
+    @Query(value = "DELETE FROM event_statistics", nativeQuery = true)
+    void deleteAllRows();
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_statistics"))
+    @Query(value = "DELETE FROM event_statistics WHERE event_id = :eventId", nativeQuery = true)
+    void deleteRow(@Param("eventId") Long eventId);
+    
+    // Recomputes rows from the raw child tables; a null eventId rebuilds every event
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_statistics"))
+    @Query(value = "INSERT INTO event_statistics (event_id, registration_count, present_count, feedback_count, rating_sum, " +
+                   "one_star_count, two_star_count, three_star_count, four_star_count, five_star_count) " +
+                   "SELECT e.id, " +
+                   "(SELECT COUNT(*) FROM registrations r WHERE r.event_id = e.id AND r.is_confirmed = 1), " +
+                   "(SELECT COUNT(*) FROM attendances a WHERE a.event_id = e.id AND a.is_present = 1), " +
+                   "COALESCE(f.feedback_count, 0), COALESCE(f.rating_sum, 0), " +
+                   "COALESCE(f.one_star, 0), COALESCE(f.two_star, 0), COALESCE(f.three_star, 0), " +
+                   "COALESCE(f.four_star, 0), COALESCE(f.five_star, 0) " +
+                   "FROM events e LEFT JOIN (SELECT event_id, COUNT(*) AS feedback_count, SUM(rating) AS rating_sum, " +
+                   "  SUM(rating = 1) AS one_star, SUM(rating = 2) AS two_star, SUM(rating = 3) AS three_star, " +
+                   "  SUM(rating = 4) AS four_star, SUM(rating = 5) AS five_star " +
+                   "  FROM feedbacks GROUP BY event_id) f ON f.event_id = e.id " +
+                   "WHERE :eventId IS NULL OR e.id = :eventId", nativeQuery = true)
+    int insertComputedRows(@Param("eventId") Long eventId);
+}
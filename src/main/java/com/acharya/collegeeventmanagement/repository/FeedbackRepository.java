@@ -1,6 +1,8 @@
 package com.acharya.collegeeventmanagement.repository;
 
+import com.acharya.collegeeventmanagement.dto.FeedbackResponse;
 import com.acharya.collegeeventmanagement.entity.Feedback;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,13 +10,28 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
     
-    List<Feedback> findByEventId(Long eventId);
+    // Response projection: flat row with the student and event columns the client shows
+    String FEEDBACK_RESPONSE = "SELECT new com.acharya.collegeeventmanagement.dto.FeedbackResponse(" +
+            "f.id, f.rating, f.comment, f.feedbackDate, s.id, s.studentId, s.firstName, s.lastName, e.id, e.name, e.eventDate) " +
+            "FROM Feedback f JOIN f.student s JOIN f.event e ";
     
-    List<Feedback> findByStudentId(Long studentId);
+    // Keyset pagination: callers pass a Pageable sorted by id
+    @Query(FEEDBACK_RESPONSE + "WHERE f.id > :id")
+    List<FeedbackResponse> findResponsesByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+    
+    @Query(FEEDBACK_RESPONSE + "WHERE f.id < :id")
+    List<FeedbackResponse> findResponsesByIdLessThan(@Param("id") Long id, Pageable pageable);
+    
+    @Query(FEEDBACK_RESPONSE + "WHERE s.id = :studentId")
+    List<FeedbackResponse> findResponsesByStudentId(@Param("studentId") Long studentId);
+    
+    @Query(FEEDBACK_RESPONSE + "WHERE s.id = :studentId AND e.id = :eventId")
+    Optional<FeedbackResponse> findResponseByStudentIdAndEventId(@Param("studentId") Long studentId, @Param("eventId") Long eventId);
     
     Optional<Feedback> findByStudentIdAndEventId(Long studentId, Long eventId);
     
@@ -26,6 +43,17 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
     @Query("SELECT COUNT(f) FROM Feedback f WHERE f.event.id = :eventId")
     Long countFeedbacksByEventId(@Param("eventId") Long eventId);
     
-    @Query("SELECT f FROM Feedback f WHERE f.event.id = :eventId ORDER BY f.feedbackDate DESC")
-    List<Feedback> findFeedbacksByEventIdOrderByDateDesc(@Param("eventId") Long eventId);
+    @Query(FEEDBACK_RESPONSE + "WHERE e.id = :eventId ORDER BY f.feedbackDate DESC")
+    List<FeedbackResponse> findResponsesByEventIdOrderByDateDesc(@Param("eventId") Long eventId);
+    
+    // Forward-only cursor for exports: rows are read while the response is written, never collected in a list
+    @Query(FEEDBACK_RESPONSE + "WHERE e.id = :eventId ORDER BY f.id")
+    Stream<FeedbackResponse> streamResponsesByEventId(@Param("eventId") Long eventId);
+    
+    // Change feed, as in EventRepository
+    @Query("SELECT f.changeSeq FROM Feedback f WHERE f.changeSeq > :since ORDER BY f.changeSeq")
+    List<Long> findChangeSeqsAfter(@Param("since") Long since, Pageable pageable);
+    
+    @Query(FEEDBACK_RESPONSE + "WHERE f.changeSeq > :since AND f.changeSeq <= :until ORDER BY f.changeSeq")
+    List<FeedbackResponse> findResponsesChangedBetween(@Param("since") Long since, @Param("until") Long until);
 }
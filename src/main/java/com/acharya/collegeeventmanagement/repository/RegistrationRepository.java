@@ -1,28 +1,60 @@
 package com.acharya.collegeeventmanagement.repository;
 
+import com.acharya.collegeeventmanagement.dto.RegistrationResponse;
 import com.acharya.collegeeventmanagement.entity.Registration;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RegistrationRepository extends JpaRepository<Registration, Long> {
     
-    List<Registration> findByEventId(Long eventId);
+    // Response projection: flat row with the student and event columns the client shows
+    String REGISTRATION_RESPONSE = "SELECT new com.acharya.collegeeventmanagement.dto.RegistrationResponse(" +
+            "r.id, r.registrationDate, r.isConfirmed, s.id, s.studentId, s.firstName, s.lastName, e.id, e.name, e.eventDate) " +
+            "FROM Registration r JOIN r.student s JOIN r.event e ";
     
-    List<Registration> findByStudentId(Long studentId);
+    // Keyset pagination: callers pass a Pageable sorted by id
+    @Query(REGISTRATION_RESPONSE + "WHERE r.id > :id")
+    List<RegistrationResponse> findResponsesByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+    
+    @Query(REGISTRATION_RESPONSE + "WHERE r.id < :id")
+    List<RegistrationResponse> findResponsesByIdLessThan(@Param("id") Long id, Pageable pageable);
+    
+    @Query(REGISTRATION_RESPONSE + "WHERE s.id = :studentId")
+    List<RegistrationResponse> findResponsesByStudentId(@Param("studentId") Long studentId);
+    
+    @Query(REGISTRATION_RESPONSE + "WHERE s.id = :studentId AND e.id = :eventId")
+    Optional<RegistrationResponse> findResponseByStudentIdAndEventId(@Param("studentId") Long studentId, @Param("eventId") Long eventId);
     
     Optional<Registration> findByStudentIdAndEventId(Long studentId, Long eventId);
     
     boolean existsByStudentIdAndEventId(Long studentId, Long eventId);
     
+    @Query("SELECT r.student.id FROM Registration r WHERE r.event.id = :eventId AND r.student.id IN :studentIds")
+    List<Long> findRegisteredStudentIds(@Param("eventId") Long eventId, @Param("studentIds") Collection<Long> studentIds);
+    
     @Query("SELECT COUNT(r) FROM Registration r WHERE r.event.id = :eventId AND r.isConfirmed = true")
     Long countConfirmedRegistrationsByEventId(@Param("eventId") Long eventId);
     
-    @Query("SELECT r FROM Registration r WHERE r.event.id = :eventId AND r.isConfirmed = true")
-    List<Registration> findConfirmedRegistrationsByEventId(@Param("eventId") Long eventId);
+    @Query(REGISTRATION_RESPONSE + "WHERE e.id = :eventId AND r.isConfirmed = true")
+    List<RegistrationResponse> findConfirmedResponsesByEventId(@Param("eventId") Long eventId);
+    
+    // Forward-only cursor for exports: rows are read while the response is written, never collected in a list
+    @Query(REGISTRATION_RESPONSE + "WHERE e.id = :eventId AND r.isConfirmed = true ORDER BY r.id")
+    Stream<RegistrationResponse> streamConfirmedResponsesByEventId(@Param("eventId") Long eventId);
+    
+    // Change feed, as in EventRepository
+    @Query("SELECT r.changeSeq FROM Registration r WHERE r.changeSeq > :since ORDER BY r.changeSeq")
+    List<Long> findChangeSeqsAfter(@Param("since") Long since, Pageable pageable);
+    
+    @Query(REGISTRATION_RESPONSE + "WHERE r.changeSeq > :since AND r.changeSeq <= :until ORDER BY r.changeSeq")
+    List<RegistrationResponse> findResponsesChangedBetween(@Param("since") Long since, @Param("until") Long until);
 }
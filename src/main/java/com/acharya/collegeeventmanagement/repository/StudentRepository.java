@@ -1,17 +1,44 @@
 package com.acharya.collegeeventmanagement.repository;
 
+import com.acharya.collegeeventmanagement.dto.StudentResponse;
 import com.acharya.collegeeventmanagement.entity.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
     
+    // Response projection: one row per student with its college name, never the child collections
+    String STUDENT_RESPONSE = "SELECT new com.acharya.collegeeventmanagement.dto.StudentResponse(" +
+            "s.id, s.studentId, s.firstName, s.lastName, s.email, s.phoneNumber, s.department, s.yearOfStudy, " +
+            "c.id, c.name) FROM Student s JOIN s.college c ";
+    
+    // Keyset pagination: callers pass a Pageable sorted by id
+    @Query(STUDENT_RESPONSE + "WHERE s.id > :id")
+    List<StudentResponse> findResponsesByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+    
+    @Query(STUDENT_RESPONSE + "WHERE s.id < :id")
+    List<StudentResponse> findResponsesByIdLessThan(@Param("id") Long id, Pageable pageable);
+    
+    @Query(STUDENT_RESPONSE + "WHERE s.id = :id")
+    Optional<StudentResponse> findResponseById(@Param("id") Long id);
+    
+    @Query(STUDENT_RESPONSE + "WHERE s.studentId = :studentId")
+    Optional<StudentResponse> findResponseByStudentId(@Param("studentId") String studentId);
+    
+    @Query(STUDENT_RESPONSE + "WHERE s.id IN :ids")
+    List<StudentResponse> findResponsesByIdIn(@Param("ids") List<Long> ids);
+    
+    @Query(STUDENT_RESPONSE + "WHERE c.id = :collegeId")
+    List<StudentResponse> findResponsesByCollegeId(@Param("collegeId") Long collegeId);
+    
     Optional<Student> findByStudentId(String studentId);
     
     Optional<Student> findByEmail(String email);
@@ -20,8 +47,21 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     
     boolean existsByEmail(String email);
     
-    List<Student> findByCollegeId(Long collegeId);
+    // studentId (roll number), id for every student; loaded once by StudentRollIndex
+    @Query("SELECT s.studentId, s.id FROM Student s")
+    List<Object[]> findAllRollNumbers();
+    
+    // Every roll number and email, so imports can reject duplicates without a query per row
+    @Query("SELECT s.studentId, s.email FROM Student s")
+    List<Object[]> findAllStudentIdsAndEmails();
+    
+    @Query("SELECT s.id FROM Student s WHERE s.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
+    // Change feed, as in EventRepository
+    @Query("SELECT s.changeSeq FROM Student s WHERE s.changeSeq > :since ORDER BY s.changeSeq")
+    List<Long> findChangeSeqsAfter(@Param("since") Long since, Pageable pageable);
     
-    @Query("SELECT s FROM Student s WHERE s.studentId LIKE %:studentId% OR s.firstName LIKE %:name% OR s.lastName LIKE %:name%")
-    List<Student> findByStudentIdOrNameContaining(@Param("studentId") String studentId, @Param("name") String name);
+    @Query(STUDENT_RESPONSE + "WHERE s.changeSeq > :since AND s.changeSeq <= :until ORDER BY s.changeSeq")
+    List<StudentResponse> findResponsesChangedBetween(@Param("since") Long since, @Param("until") Long until);
 }
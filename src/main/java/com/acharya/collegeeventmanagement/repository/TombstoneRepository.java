@@ -0,0 +1,20 @@
+package com.acharya.collegeeventmanagement.repository;
+
+import com.acharya.collegeeventmanagement.entity.Tombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+    
+    @Query("SELECT t.changeSeq FROM Tombstone t WHERE t.changeSeq > :since ORDER BY t.changeSeq")
+    List<Long> findChangeSeqsAfter(@Param("since") Long since, Pageable pageable);
+    
+    @Query("SELECT t FROM Tombstone t WHERE t.changeSeq > :since AND t.changeSeq <= :until ORDER BY t.changeSeq")
+    List<Tombstone> findChangedBetween(@Param("since") Long since, @Param("until") Long until);
+}
@@ -1,14 +1,27 @@
 package com.acharya.collegeeventmanagement.repository;
 
 import com.acharya.collegeeventmanagement.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    // Keyset pagination: callers pass a Pageable sorted by id
+    List<User> findByIdGreaterThan(Long id, Pageable pageable);
+    
+    List<User> findByIdLessThan(Long id, Pageable pageable);
+    
+    // Login lookups: the query cache keeps the id, the users region keeps the row
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
     
     Optional<User> findByEmail(String email);
@@ -16,4 +29,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
+    
+    // username, role, isActive for every user; loaded once by UserAccessRegistry
+    @Query("SELECT u.username, u.role, u.isActive FROM User u")
+    List<Object[]> findAllAccessRows();
 }
@@ -0,0 +1,49 @@
+package com.acharya.collegeeventmanagement.repository;
+
+import com.acharya.collegeeventmanagement.dto.WaitlistResponse;
+import com.acharya.collegeeventmanagement.entity.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+    
+    // Response projection: flat row with the student and event columns the client shows
+    String WAITLIST_RESPONSE = "SELECT new com.acharya.collegeeventmanagement.dto.WaitlistResponse(" +
+            "w.id, w.joinedAt, s.id, s.studentId, s.firstName, s.lastName, e.id, e.name, e.eventDate) " +
+            "FROM WaitlistEntry w JOIN w.student s JOIN w.event e ";
+    
+    @Query(WAITLIST_RESPONSE + "WHERE e.id = :eventId ORDER BY w.queueNumber")
+    List<WaitlistResponse> findResponsesByEventIdInQueueOrder(@Param("eventId") Long eventId);
+    
+    @Query(WAITLIST_RESPONSE + "WHERE w.id = :id")
+    Optional<WaitlistResponse> findResponseById(@Param("id") Long id);
+    
+    Optional<WaitlistEntry> findByStudentIdAndEventId(Long studentId, Long eventId);
+    
+    boolean existsByStudentIdAndEventId(Long studentId, Long eventId);
+    
+    Optional<WaitlistEntry> findFirstByEventIdOrderByQueueNumberAsc(Long eventId);
+    
+    @Query("SELECT COALESCE(MAX(w.queueNumber), 0) FROM WaitlistEntry w WHERE w.event.id = :eventId")
+    Long findLastQueueNumber(@Param("eventId") Long eventId);
+    
+    @Query("SELECT COUNT(w) FROM WaitlistEntry w WHERE w.event.id = :eventId AND w.queueNumber < :queueNumber")
+    Long countAhead(@Param("eventId") Long eventId, @Param("queueNumber") Long queueNumber);
+    
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.event.id = :eventId AND w.student.id IN :studentIds")
+    int deleteByEventIdAndStudentIds(@Param("eventId") Long eventId, @Param("studentIds") Collection<Long> studentIds);
+    
+    // Returns 0 when another transaction already removed the entry
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.id = :id")
+    int deleteEntry(@Param("id") Long id);
+}
@@ -1,5 +1,6 @@
 package com.acharya.collegeeventmanagement.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -43,9 +44,12 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // The closing dispatch of a streamed response (exports, live counts); the request was checked on the way in
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                
                 // Public endpoints
                 .requestMatchers("/api/auth/**").permitAll()
-                .requestMatchers("/actuator/**").permitAll()
+                .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
                 .requestMatchers("/").permitAll()
                 
                 // Admin only endpoints
@@ -55,8 +59,12 @@ public class SecurityConfig {
                 .requestMatchers("/api/registrations/**").hasAnyRole("ADMIN", "USER")
                 .requestMatchers("/api/attendance/**").hasAnyRole("ADMIN", "USER")
                 .requestMatchers("/api/feedback/**").hasAnyRole("ADMIN", "USER")
+                .requestMatchers("/api/dashboard/**").hasAnyRole("ADMIN", "USER")
+                .requestMatchers("/api/changes/**").hasAnyRole("ADMIN", "USER")
                 .requestMatchers("/api/reports/**").hasRole("ADMIN")
                 .requestMatchers("/api/users/**").hasRole("ADMIN")
+                // Metrics and caches (DELETE /actuator/caches flushes them all)
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 
                 // All other requests need authentication
                 .anyRequest().authenticated()
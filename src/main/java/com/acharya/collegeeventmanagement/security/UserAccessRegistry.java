@@ -0,0 +1,53 @@
+package com.acharya.collegeeventmanagement.security;
+
+import com.acharya.collegeeventmanagement.entity.User;
+import com.acharya.collegeeventmanagement.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Current role of every known username, or DISABLED for deactivated and deleted accounts. The JWT filter
+// checks token claims against this map instead of loading the user on every request, so UserController
+// must report role, status and delete changes here for them to take effect immediately.
+@Component
+public class UserAccessRegistry {
+    
+    private static final String DISABLED = "";
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    private final Map<String, String> accessByUsername = new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    public void load() {
+        for (Object[] row : userRepository.findAllAccessRows()) {
+            accessByUsername.put((String) row[0], Boolean.TRUE.equals(row[2]) ? row[1].toString() : DISABLED);
+        }
+    }
+    
+    // True when the account is active and still holds the role the token was issued for
+    public boolean isAllowed(String username, String role) {
+        String current = accessByUsername.computeIfAbsent(username, this::lookup);
+        return !current.equals(DISABLED) && current.equals(role);
+    }
+    
+    public void userChanged(User user) {
+        accessByUsername.put(user.getUsername(), Boolean.TRUE.equals(user.getIsActive()) ? user.getRole().name() : DISABLED);
+    }
+    
+    // Also used for the old name when a user is renamed
+    public void userRemoved(String username) {
+        accessByUsername.put(username, DISABLED);
+    }
+    
+    // Users created after startup (e.g. self-registration) are picked up on their first request
+    private String lookup(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> Boolean.TRUE.equals(user.getIsActive()) ? user.getRole().name() : DISABLED)
+                .orElse(DISABLED);
+    }
+}
@@ -1,14 +1,22 @@
 package com.acharya.collegeeventmanagement.service;
 
+import com.acharya.collegeeventmanagement.dto.AttendanceResponse;
+import com.acharya.collegeeventmanagement.dto.CursorPage;
+import com.acharya.collegeeventmanagement.dto.EventResponse;
+import com.acharya.collegeeventmanagement.dto.KeysetPageRequest;
+import com.acharya.collegeeventmanagement.dto.StudentResponse;
 import com.acharya.collegeeventmanagement.entity.Attendance;
-import com.acharya.collegeeventmanagement.entity.Event;
-import com.acharya.collegeeventmanagement.entity.Student;
+import com.acharya.collegeeventmanagement.entity.EventStatistics;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
 import com.acharya.collegeeventmanagement.repository.AttendanceRepository;
 import com.acharya.collegeeventmanagement.repository.EventRepository;
 import com.acharya.collegeeventmanagement.repository.StudentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,75 +34,146 @@ public class AttendanceService {
     @Autowired
     private EventRepository eventRepository;
     
-    public Attendance markAttendance(Long studentId, Long eventId) {
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + studentId));
-        
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+    @Autowired
+    private EventStatisticsService eventStatisticsService;
+    
+    @Autowired
+    private CheckInService checkInService;
+    
+    @Autowired
+    private LookupService lookupService;
+    
+    @Autowired
+    private WritePipeline writePipeline;
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AttendanceResponse markAttendance(Long studentId, Long eventId) {
+        AttendanceResponse attendance = writePipeline.execute(() -> writePresent(studentId, eventId));
+        afterCommit(() -> checkInService.markedPresent(eventId, studentId));
+        return attendance;
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AttendanceResponse markAbsent(Long studentId, Long eventId) {
+        AttendanceResponse attendance = writePipeline.execute(() -> writeAbsent(studentId, eventId));
+        afterCommit(() -> checkInService.markedAbsent(eventId, studentId));
+        return attendance;
+    }
+    
+    // The kiosk present-set follows committed rows only. A write's savepoint can roll back inside a batch that
+    // still commits, so the change is applied once execute has returned rather than from inside the write; when
+    // execute ran inline in the caller's transaction it waits for that transaction to commit.
+    private void afterCommit(Runnable presentSetChange) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            presentSetChange.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                presentSetChange.run();
+            }
+        });
+    }
+    
+    private AttendanceResponse writePresent(Long studentId, Long eventId) {
+        // Existence checks come from the lookup cache; the new row only needs references
+        StudentResponse student = lookupService.findStudent(studentId)
+                .orElseThrow(() -> new BadRequestException("Student not found with id: " + studentId));
+        EventResponse event = lookupService.findEvent(eventId)
+                .orElseThrow(() -> new BadRequestException("Event not found with id: " + eventId));
         
-        if (!event.getIsActive()) {
-            throw new RuntimeException("Event is not active");
+        if (!event.isActive()) {
+            throw new BadRequestException("Event is not active");
         }
         
         // Check if attendance already exists
         Optional<Attendance> existingAttendance = attendanceRepository.findByStudentIdAndEventId(studentId, eventId);
         if (existingAttendance.isPresent()) {
             Attendance attendance = existingAttendance.get();
+            boolean wasPresent = attendance.getIsPresent();
             attendance.setIsPresent(true);
             attendance.setAttendanceTime(java.time.LocalDateTime.now());
-            return attendanceRepository.save(attendance);
+            Attendance savedAttendance = attendanceRepository.save(attendance);
+            if (!wasPresent) {
+                eventStatisticsService.presentCountChanged(eventId, 1);
+            }
+            return toResponse(savedAttendance, student, event);
         }
         
-        Attendance attendance = new Attendance(student, event);
-        return attendanceRepository.save(attendance);
+        Attendance attendance = new Attendance(studentRepository.getReferenceById(studentId), eventRepository.getReferenceById(eventId));
+        Attendance savedAttendance = attendanceRepository.save(attendance);
+        eventStatisticsService.presentCountChanged(eventId, 1);
+        return toResponse(savedAttendance, student, event);
     }
     
-    public Attendance markAbsent(Long studentId, Long eventId) {
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + studentId));
-        
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+    private AttendanceResponse writeAbsent(Long studentId, Long eventId) {
+        // Existence checks come from the lookup cache; the new row only needs references
+        StudentResponse student = lookupService.findStudent(studentId)
+                .orElseThrow(() -> new BadRequestException("Student not found with id: " + studentId));
+        EventResponse event = lookupService.findEvent(eventId)
+                .orElseThrow(() -> new BadRequestException("Event not found with id: " + eventId));
         
         Optional<Attendance> existingAttendance = attendanceRepository.findByStudentIdAndEventId(studentId, eventId);
         if (existingAttendance.isPresent()) {
             Attendance attendance = existingAttendance.get();
+            boolean wasPresent = attendance.getIsPresent();
             attendance.setIsPresent(false);
             attendance.setAttendanceTime(java.time.LocalDateTime.now());
-            return attendanceRepository.save(attendance);
+            Attendance savedAttendance = attendanceRepository.save(attendance);
+            if (wasPresent) {
+                eventStatisticsService.presentCountChanged(eventId, -1);
+            }
+            return toResponse(savedAttendance, student, event);
         }
         
-        Attendance attendance = new Attendance(student, event);
+        Attendance attendance = new Attendance(studentRepository.getReferenceById(studentId), eventRepository.getReferenceById(eventId));
         attendance.setIsPresent(false);
-        return attendanceRepository.save(attendance);
+        return toResponse(attendanceRepository.save(attendance), student, event);
     }
     
-    public List<Attendance> getAttendanceByEventId(Long eventId) {
-        return attendanceRepository.findByEventId(eventId);
+    @Transactional(readOnly = true)
+    public List<AttendanceResponse> getAttendanceByEventId(Long eventId) {
+        return attendanceRepository.findResponsesByEventId(eventId);
     }
     
-    public List<Attendance> getAttendanceByStudentId(Long studentId) {
-        return attendanceRepository.findByStudentId(studentId);
+    @Transactional(readOnly = true)
+    public List<AttendanceResponse> getAttendanceByStudentId(Long studentId) {
+        return attendanceRepository.findResponsesByStudentId(studentId);
     }
     
-    public List<Attendance> getPresentAttendanceByEventId(Long eventId) {
-        return attendanceRepository.findPresentAttendancesByEventId(eventId);
+    @Transactional(readOnly = true)
+    public List<AttendanceResponse> getPresentAttendanceByEventId(Long eventId) {
+        return attendanceRepository.findPresentResponsesByEventId(eventId);
     }
     
-    public List<Attendance> getPresentAttendanceByStudentId(Long studentId) {
-        return attendanceRepository.findPresentAttendancesByStudentId(studentId);
+    @Transactional(readOnly = true)
+    public List<AttendanceResponse> getPresentAttendanceByStudentId(Long studentId) {
+        return attendanceRepository.findPresentResponsesByStudentId(studentId);
     }
     
-    public Optional<Attendance> getAttendanceByStudentAndEvent(Long studentId, Long eventId) {
-        return attendanceRepository.findByStudentIdAndEventId(studentId, eventId);
+    @Transactional(readOnly = true)
+    public Optional<AttendanceResponse> getAttendanceByStudentAndEvent(Long studentId, Long eventId) {
+        return attendanceRepository.findResponseByStudentIdAndEventId(studentId, eventId);
     }
     
+    @Transactional(readOnly = true)
     public Long getAttendanceCountByEventId(Long eventId) {
-        return attendanceRepository.countPresentAttendancesByEventId(eventId);
+        return eventStatisticsService.getStatistics(eventId)
+                .map(EventStatistics::getPresentCount)
+                .orElse(0L);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<AttendanceResponse> getAttendancePage(KeysetPageRequest pageRequest) {
+        List<AttendanceResponse> attendances = pageRequest.isDescending()
+                ? attendanceRepository.findResponsesByIdLessThan(pageRequest.getAnchorId(), pageRequest.toPageable())
+                : attendanceRepository.findResponsesByIdGreaterThan(pageRequest.getAnchorId(), pageRequest.toPageable());
+        return pageRequest.toPage(attendances, AttendanceResponse::id);
     }
     
-    public List<Attendance> getAllAttendance() {
-        return attendanceRepository.findAll();
+    private static AttendanceResponse toResponse(Attendance attendance, StudentResponse student, EventResponse event) {
+        return new AttendanceResponse(attendance.getId(), student.summary(), event.summary(),
+                attendance.getAttendanceTime(), attendance.getIsPresent());
     }
 }
@@ -0,0 +1,107 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.dto.ChangeFeed;
+import com.acharya.collegeeventmanagement.entity.Tombstone;
+import com.acharya.collegeeventmanagement.repository.AttendanceRepository;
+import com.acharya.collegeeventmanagement.repository.EventRepository;
+import com.acharya.collegeeventmanagement.repository.FeedbackRepository;
+import com.acharya.collegeeventmanagement.repository.RegistrationRepository;
+import com.acharya.collegeeventmanagement.repository.StudentRepository;
+import com.acharya.collegeeventmanagement.repository.TombstoneRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Incremental sync. The database triggers in V2__change_feed.sql stamp every change to events, students,
+// registrations, attendance and feedback with a global sequence number, and leave a tombstone for every delete.
+// A client keeps the highest number it has seen and asks only for what came after it. Tombstones are only kept
+// for a while (TombstoneCompactionService); a client that falls further behind is told to resync.
+@Service
+@Transactional(readOnly = true)
+public class ChangeFeedService {
+    
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 2000;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private RegistrationRepository registrationRepository;
+    
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+    
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    // Every query here runs in one read transaction, so the page is a consistent snapshot
+    public ChangeFeed getChangesSince(long since, Integer limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        int pageLimit = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        long[] sequence = jdbcTemplate.queryForObject("SELECT value, pruned_through FROM change_sequence WHERE id = 1",
+                (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)});
+        long latest = sequence[0];
+        long prunedThrough = sequence[1];
+        
+        // TombstoneCompactionService has dropped tombstones this client has not seen. A full load (since = 0)
+        // needs no tombstones, so it is always served.
+        if (since > 0 && since < prunedThrough) {
+            return new ChangeFeed(0, false, true, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        }
+        
+        long until = pageEnd(since, pageLimit, latest);
+        if (until <= since) {
+            // Nothing new. A cursor above latest means the database was replaced; cursor < since tells the client
+            return new ChangeFeed(latest, false, false, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        }
+        
+        List<ChangeFeed.Deletion> deleted = new ArrayList<>();
+        for (Tombstone tombstone : tombstoneRepository.findChangedBetween(since, until)) {
+            deleted.add(new ChangeFeed.Deletion(tombstone.getChangeSeq(), tombstone.getEntityType(), tombstone.getEntityId()));
+        }
+        return new ChangeFeed(until, until < latest, false,
+                eventRepository.findResponsesChangedBetween(since, until),
+                studentRepository.findResponsesChangedBetween(since, until),
+                registrationRepository.findResponsesChangedBetween(since, until),
+                attendanceRepository.findResponsesChangedBetween(since, until),
+                feedbackRepository.findResponsesChangedBetween(since, until),
+                deleted);
+    }
+    
+    // The sequence number of the limit-th change after since across all tables, or latest if there are fewer.
+    // Each table can contribute at most limit numbers, so reading limit from each is enough to find it.
+    private long pageEnd(long since, int limit, long latest) {
+        Pageable first = PageRequest.of(0, limit);
+        List<Long> seqs = new ArrayList<>();
+        seqs.addAll(eventRepository.findChangeSeqsAfter(since, first));
+        seqs.addAll(studentRepository.findChangeSeqsAfter(since, first));
+        seqs.addAll(registrationRepository.findChangeSeqsAfter(since, first));
+        seqs.addAll(attendanceRepository.findChangeSeqsAfter(since, first));
+        seqs.addAll(feedbackRepository.findChangeSeqsAfter(since, first));
+        seqs.addAll(tombstoneRepository.findChangeSeqsAfter(since, first));
+        if (seqs.size() <= limit) {
+            return latest;
+        }
+        Collections.sort(seqs);
+        return seqs.get(limit - 1);
+    }
+}
@@ -0,0 +1,250 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.dto.CheckInResult;
+import com.acharya.collegeeventmanagement.entity.Event;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
+import com.acharya.collegeeventmanagement.exception.TooManyRequestsException;
+import com.acharya.collegeeventmanagement.repository.AttendanceRepository;
+import com.acharya.collegeeventmanagement.repository.EventRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Kiosk check-in: roll number lookup and duplicate detection happen in memory. Accepted scans are queued, and the
+// first scan into an empty queue submits one WritePipeline write that takes everything queued by the time it
+// runs: a single batched upsert plus one statistics update per event. Scans arriving after that form the next
+// write. Callers wait for the commit, so a CHECKED_IN answer is always durable.
+@Service
+public class CheckInService {
+    
+    private static final String UPSERT_PRESENT =
+            "INSERT INTO attendances (attendance_time, student_id, event_id, is_present) VALUES (?, ?, ?, 1) " +
+            "ON CONFLICT (student_id, event_id) DO UPDATE SET is_present = 1, attendance_time = excluded.attendance_time " +
+            "WHERE is_present = 0";
+    
+    @Autowired
+    private StudentRollIndex studentRollIndex;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    
+    @Autowired
+    private EventStatisticsService eventStatisticsService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private WritePipeline writePipeline;
+    
+    @Value("${attendance.check-in.write-timeout-ms:5000}")
+    private long writeTimeoutMs;
+    
+    @Value("${attendance.check-in.queue-capacity:10000}")
+    private int queueCapacity;
+    
+    @Value("${attendance.check-in.max-batch-size:1000}")
+    private int maxBatchSize;
+    
+    private final Map<Long, EventCheckIns> eventCheckIns = new ConcurrentHashMap<>();
+    
+    private BlockingQueue<PendingCheckIn> queue;
+    
+    // Set while a submitted write has yet to take the queued scans
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+    
+    public CheckInResult checkIn(Long eventId, String rollNumber) {
+        Long studentId = studentRollIndex.findStudentId(rollNumber);
+        if (studentId == null) {
+            throw new BadRequestException("Student not found with roll number: " + rollNumber);
+        }
+        
+        EventCheckIns checkIns = getEventCheckIns(eventId);
+        if (!checkIns.active) {
+            throw new BadRequestException("Event is not active");
+        }
+        
+        // The present-set is the duplicate check; only the first scan of a student gets queued
+        if (!checkIns.presentStudentIds.add(studentId)) {
+            return new CheckInResult(eventId, studentId, rollNumber, CheckInResult.Status.ALREADY_CHECKED_IN, null);
+        }
+        
+        long checkedInAtMillis = System.currentTimeMillis();
+        LocalDateTime checkedInAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(checkedInAtMillis), ZoneId.systemDefault());
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        if (!queue.offer(new PendingCheckIn(eventId, studentId, checkedInAtMillis, written))) {
+            checkIns.presentStudentIds.remove(studentId);
+            throw new TooManyRequestsException("Check-in queue is full, please retry shortly");
+        }
+        scheduleWrite();
+        
+        // A failed write takes the student back out of the present-set. After a timeout the write may still
+        // commit, so the student stays marked present and a rescan reports ALREADY_CHECKED_IN.
+        written.whenComplete((result, failure) -> {
+            if (failure != null) {
+                markedAbsent(eventId, studentId);
+            }
+        });
+        try {
+            written.get(writeTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Check-in could not be saved: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Check-in is still being saved, please scan again shortly");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Check-in was interrupted");
+        }
+        
+        return new CheckInResult(eventId, studentId, rollNumber, CheckInResult.Status.CHECKED_IN, checkedInAt);
+    }
+    
+    // Called by AttendanceService so manual marking and kiosk scans agree on who is present
+    public void markedPresent(Long eventId, Long studentId) {
+        EventCheckIns checkIns = eventCheckIns.get(eventId);
+        if (checkIns != null) {
+            checkIns.presentStudentIds.add(studentId);
+        }
+    }
+    
+    public void markedAbsent(Long eventId, Long studentId) {
+        EventCheckIns checkIns = eventCheckIns.get(eventId);
+        if (checkIns != null) {
+            checkIns.presentStudentIds.remove(studentId);
+        }
+    }
+    
+    public void eventChanged(Long eventId, Boolean isActive) {
+        EventCheckIns checkIns = eventCheckIns.get(eventId);
+        if (checkIns != null) {
+            checkIns.active = Boolean.TRUE.equals(isActive);
+        }
+    }
+    
+    public void eventRemoved(Long eventId) {
+        eventCheckIns.remove(eventId);
+    }
+    
+    public void clear() {
+        eventCheckIns.clear();
+    }
+    
+    private EventCheckIns getEventCheckIns(Long eventId) {
+        EventCheckIns checkIns = eventCheckIns.get(eventId);
+        if (checkIns != null) {
+            return checkIns;
+        }
+        
+        // First scan for this event: one thread loads its state while the rest of the doors wait for it,
+        // rather than every kiosk hitting the database at once
+        return eventCheckIns.computeIfAbsent(eventId, id -> {
+            Event event = eventRepository.findById(id)
+                    .orElseThrow(() -> new BadRequestException("Event not found with id: " + id));
+            EventCheckIns loaded = new EventCheckIns(Boolean.TRUE.equals(event.getIsActive()));
+            loaded.presentStudentIds.addAll(attendanceRepository.findPresentStudentIdsByEventId(id));
+            return loaded;
+        });
+    }
+    
+    private void scheduleWrite() {
+        if (!writeScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        
+        List<PendingCheckIn> batch = new ArrayList<>();
+        CompletableFuture<Void> written;
+        try {
+            written = writePipeline.submitBatch(() -> {
+                // Empty on the first run; the pipeline reruns a write on its own after a failed batch, and the
+                // rerun must save the same scans
+                if (batch.isEmpty()) {
+                    writeScheduled.set(false);
+                    queue.drainTo(batch, maxBatchSize);
+                    if (!queue.isEmpty()) {
+                        scheduleWrite();
+                    }
+                }
+                persist(batch);
+                return null;
+            });
+        } catch (TooManyRequestsException e) {
+            writeScheduled.set(false);
+            queue.drainTo(batch);
+            written = CompletableFuture.failedFuture(e);
+        }
+        
+        written.whenComplete((result, failure) -> {
+            for (PendingCheckIn checkIn : batch) {
+                if (failure == null) {
+                    checkIn.written().complete(null);
+                } else {
+                    checkIn.written().completeExceptionally(failure);
+                }
+            }
+        });
+    }
+    
+    private void persist(List<PendingCheckIn> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        // A student marked absent earlier already has a row, which the upsert flips; a row that is already
+        // present is left alone and reports no change, so it is not counted twice
+        int[][] changes = jdbcTemplate.batchUpdate(UPSERT_PRESENT, batch, batch.size(), (statement, checkIn) -> {
+            // Stored as epoch millis, as sqlite-jdbc does for a Timestamp, without the Calendar it builds per row
+            statement.setLong(1, checkIn.checkedInAtMillis());
+            statement.setLong(2, checkIn.studentId());
+            statement.setLong(3, checkIn.eventId());
+        });
+        
+        Map<Long, Long> presentByEvent = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (changes[0][i] > 0) {
+                presentByEvent.merge(batch.get(i).eventId(), 1L, Long::sum);
+            }
+        }
+        presentByEvent.forEach(eventStatisticsService::presentCountChanged);
+    }
+    
+    private static final class EventCheckIns {
+        
+        private volatile boolean active;
+        
+        private final Set<Long> presentStudentIds = ConcurrentHashMap.newKeySet();
+        
+        private EventCheckIns(boolean active) {
+            this.active = active;
+        }
+    }
+    
+    private record PendingCheckIn(Long eventId, Long studentId, long checkedInAtMillis, CompletableFuture<Void> written) {
+    }
+}
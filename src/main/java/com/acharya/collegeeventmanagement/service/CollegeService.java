@@ -1,8 +1,14 @@
 package com.acharya.collegeeventmanagement.service;
 
+import com.acharya.collegeeventmanagement.config.CacheConfig;
+import com.acharya.collegeeventmanagement.dto.CollegeResponse;
 import com.acharya.collegeeventmanagement.entity.College;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
 import com.acharya.collegeeventmanagement.repository.CollegeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,32 +22,59 @@ public class CollegeService {
     @Autowired
     private CollegeRepository collegeRepository;
     
-    public College addCollege(College college) {
+    @Autowired
+    private EventStatisticsService eventStatisticsService;
+    
+    @Autowired
+    private SearchIndexService searchIndexService;
+    
+    @Autowired
+    private StudentRollIndex studentRollIndex;
+    
+    @Autowired
+    private CheckInService checkInService;
+    
+    @Autowired
+    private LookupService lookupService;
+    
+    @CacheEvict(cacheNames = CacheConfig.COLLEGE_LIST, allEntries = true)
+    public CollegeResponse addCollege(College college) {
         if (collegeRepository.existsByName(college.getName())) {
-            throw new RuntimeException("College with name '" + college.getName() + "' already exists");
+            throw new BadRequestException("College with name '" + college.getName() + "' already exists");
         }
-        return collegeRepository.save(college);
+        return CollegeResponse.from(collegeRepository.save(college));
     }
     
-    public List<College> getAllColleges() {
-        return collegeRepository.findAll();
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COLLEGE_LIST, key = "'all'")
+    public List<CollegeResponse> getAllColleges() {
+        return collegeRepository.findAllResponses();
     }
     
-    public Optional<College> getCollegeById(Long id) {
-        return collegeRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<CollegeResponse> getCollegeById(Long id) {
+        return lookupService.findCollege(id);
     }
     
-    public Optional<College> getCollegeByName(String name) {
-        return collegeRepository.findByName(name);
+    @Transactional(readOnly = true)
+    public Optional<CollegeResponse> getCollegeByName(String name) {
+        return collegeRepository.findResponseByName(name);
     }
     
-    public College updateCollege(Long id, College collegeDetails) {
+    // Event and student responses embed the college name, so those caches go too
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.COLLEGES, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.COLLEGE_LIST, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true)
+    })
+    public CollegeResponse updateCollege(Long id, College collegeDetails) {
         College college = collegeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("College not found with id: " + id));
+                .orElseThrow(() -> new BadRequestException("College not found with id: " + id));
         
         if (!college.getName().equals(collegeDetails.getName()) && 
             collegeRepository.existsByName(collegeDetails.getName())) {
-            throw new RuntimeException("College with name '" + collegeDetails.getName() + "' already exists");
+            throw new BadRequestException("College with name '" + collegeDetails.getName() + "' already exists");
         }
         
         college.setName(collegeDetails.getName());
@@ -50,12 +83,26 @@ public class CollegeService {
         college.setState(collegeDetails.getState());
         college.setCountry(collegeDetails.getCountry());
         
-        return collegeRepository.save(college);
+        return CollegeResponse.from(collegeRepository.save(college));
     }
     
+    // Events and students cascade with the college
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.COLLEGES, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.COLLEGE_LIST, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true)
+    })
     public void deleteCollege(Long id) {
         College college = collegeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("College not found with id: " + id));
+                .orElseThrow(() -> new BadRequestException("College not found with id: " + id));
         collegeRepository.delete(college);
+        
+        // Events and students cascade with the college; recount everything
+        collegeRepository.flush();
+        eventStatisticsService.rebuildAll();
+        searchIndexService.rebuild();
+        studentRollIndex.reload();
+        checkInService.clear();
     }
 }
@@ -0,0 +1,96 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.config.CacheConfig;
+import com.acharya.collegeeventmanagement.dto.AttendanceResponse;
+import com.acharya.collegeeventmanagement.dto.DashboardSummary;
+import com.acharya.collegeeventmanagement.dto.FeedbackResponse;
+import com.acharya.collegeeventmanagement.dto.RegistrationResponse;
+import com.acharya.collegeeventmanagement.repository.AttendanceRepository;
+import com.acharya.collegeeventmanagement.repository.CollegeRepository;
+import com.acharya.collegeeventmanagement.repository.EventRepository;
+import com.acharya.collegeeventmanagement.repository.FeedbackRepository;
+import com.acharya.collegeeventmanagement.repository.RegistrationRepository;
+import com.acharya.collegeeventmanagement.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class DashboardService {
+    
+    private static final int UPCOMING_EVENTS = 5;
+    
+    private static final int TOP_EVENTS = 5;
+    
+    private static final int RECENT_ACTIVITY = 10;
+    
+    @Autowired
+    private ReportService reportService;
+    
+    @Autowired
+    private CollegeRepository collegeRepository;
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private RegistrationRepository registrationRepository;
+    
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+    
+    // A handful of aggregate and top-N queries; cached for cache.dashboard.ttl-seconds, so a busy admin page
+    // costs one computation per TTL however many browsers poll it. The overall statistics and the popularity
+    // ranking are report data (ADMIN only under /api/reports), so they are left out of the USER variant, which is
+    // cached under its own key.
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD, key = "#includeReports ? 'admin' : 'user'")
+    public DashboardSummary getSummary(boolean includeReports) {
+        LocalDateTime now = LocalDateTime.now();
+        return new DashboardSummary(
+                collegeRepository.count(),
+                studentRepository.count(),
+                includeReports ? reportService.getOverallStatistics() : null,
+                eventRepository.findUpcomingResponses(now, PageRequest.of(0, UPCOMING_EVENTS)),
+                includeReports ? eventRepository.findTopEventPopularity(PageRequest.of(0, TOP_EVENTS)) : null,
+                recentActivity(),
+                now);
+    }
+    
+    // Newest rows of each table by id (ids grow with time), merged by timestamp
+    private List<DashboardSummary.Activity> recentActivity() {
+        Pageable newest = PageRequest.of(0, RECENT_ACTIVITY, Sort.by(Sort.Direction.DESC, "id"));
+        List<DashboardSummary.Activity> activity = new ArrayList<>();
+        for (RegistrationResponse registration : registrationRepository.findResponsesByIdLessThan(Long.MAX_VALUE, newest)) {
+            activity.add(new DashboardSummary.Activity("REGISTRATION", registration.registrationDate(),
+                    registration.student(), registration.event()));
+        }
+        for (AttendanceResponse attendance : attendanceRepository.findResponsesByIdLessThan(Long.MAX_VALUE, newest)) {
+            String type = Boolean.TRUE.equals(attendance.isPresent()) ? "ATTENDANCE" : "ABSENCE";
+            activity.add(new DashboardSummary.Activity(type, attendance.attendanceTime(),
+                    attendance.student(), attendance.event()));
+        }
+        for (FeedbackResponse feedback : feedbackRepository.findResponsesByIdLessThan(Long.MAX_VALUE, newest)) {
+            activity.add(new DashboardSummary.Activity("FEEDBACK", feedback.feedbackDate(),
+                    feedback.student(), feedback.event()));
+        }
+        
+        activity.sort(Comparator.comparing(DashboardSummary.Activity::timestamp).reversed());
+        return activity.size() > RECENT_ACTIVITY ? new ArrayList<>(activity.subList(0, RECENT_ACTIVITY)) : activity;
+    }
+}
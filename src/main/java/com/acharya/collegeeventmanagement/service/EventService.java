@@ -1,10 +1,16 @@
 package com.acharya.collegeeventmanagement.service;
 
+import com.acharya.collegeeventmanagement.config.CacheConfig;
+import com.acharya.collegeeventmanagement.dto.CursorPage;
+import com.acharya.collegeeventmanagement.dto.EventResponse;
+import com.acharya.collegeeventmanagement.dto.KeysetPageRequest;
 import com.acharya.collegeeventmanagement.entity.College;
 import com.acharya.collegeeventmanagement.entity.Event;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
 import com.acharya.collegeeventmanagement.repository.CollegeRepository;
 import com.acharya.collegeeventmanagement.repository.EventRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,57 +28,91 @@ public class EventService {
     @Autowired
     private CollegeRepository collegeRepository;
     
-    public Event createEvent(Event event) {
+    @Autowired
+    private EventStatisticsService eventStatisticsService;
+    
+    @Autowired
+    private SearchIndexService searchIndexService;
+    
+    @Autowired
+    private CheckInService checkInService;
+    
+    @Autowired
+    private RegistrationService registrationService;
+    
+    @Autowired
+    private LookupService lookupService;
+    
+    public EventResponse createEvent(Event event) {
         // Verify college exists
         College college = collegeRepository.findById(event.getCollege().getId())
-                .orElseThrow(() -> new RuntimeException("College not found with id: " + event.getCollege().getId()));
+                .orElseThrow(() -> new BadRequestException("College not found with id: " + event.getCollege().getId()));
         
         event.setCollege(college);
         event.setCurrentRegistrations(0);
         event.setIsActive(true);
         
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        eventStatisticsService.initializeEvent(savedEvent.getId());
+        searchIndexService.indexEvent(savedEvent);
+        return EventResponse.from(savedEvent);
     }
     
-    public List<Event> getAllEvents() {
-        return eventRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<EventResponse> getEventsPage(KeysetPageRequest pageRequest) {
+        List<EventResponse> events = pageRequest.isDescending()
+                ? eventRepository.findResponsesByIdLessThan(pageRequest.getAnchorId(), pageRequest.toPageable())
+                : eventRepository.findResponsesByIdGreaterThan(pageRequest.getAnchorId(), pageRequest.toPageable());
+        return pageRequest.toPage(events, EventResponse::id);
     }
     
-    public List<Event> getActiveEvents() {
-        return eventRepository.findByIsActiveTrue();
+    @Transactional(readOnly = true)
+    public List<EventResponse> getActiveEvents() {
+        return eventRepository.findActiveResponses();
     }
     
-    public List<Event> getEventsByCollegeId(Long collegeId) {
-        return eventRepository.findByCollegeId(collegeId);
+    @Transactional(readOnly = true)
+    public List<EventResponse> getEventsByCollegeId(Long collegeId) {
+        return eventRepository.findResponsesByCollegeId(collegeId);
     }
     
-    public List<Event> getEventsByType(String eventType) {
-        return eventRepository.findByEventType(eventType);
+    @Transactional(readOnly = true)
+    public List<EventResponse> getEventsByType(String eventType) {
+        return eventRepository.findResponsesByEventType(eventType);
     }
     
-    public List<Event> getAvailableEvents() {
-        return eventRepository.findAvailableEvents();
+    @Transactional(readOnly = true)
+    public List<EventResponse> getAvailableEvents() {
+        return eventRepository.findAvailableResponses();
     }
     
-    public List<Event> searchEvents(String searchTerm) {
-        return eventRepository.findByNameOrDescriptionContaining(searchTerm, searchTerm);
+    @Transactional(readOnly = true)
+    public List<EventResponse> searchEvents(String searchTerm) {
+        List<Long> rankedIds = searchIndexService.searchEventIds(searchTerm);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        return SearchIndexService.inRankOrder(rankedIds, eventRepository.findResponsesByIdIn(rankedIds), EventResponse::id);
     }
     
-    public List<Event> getEventsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return eventRepository.findEventsByDateRange(startDate, endDate);
+    @Transactional(readOnly = true)
+    public List<EventResponse> getEventsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        return eventRepository.findResponsesByDateRange(startDate, endDate);
     }
     
-    public Optional<Event> getEventById(Long id) {
-        return eventRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<EventResponse> getEventById(Long id) {
+        return lookupService.findEvent(id);
     }
     
-    public Event updateEvent(Long id, Event eventDetails) {
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#id")
+    public EventResponse updateEvent(Long id, Event eventDetails) {
         Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + id));
+                .orElseThrow(() -> new BadRequestException("Event not found with id: " + id));
         
         // Verify college exists
         College college = collegeRepository.findById(eventDetails.getCollege().getId())
-                .orElseThrow(() -> new RuntimeException("College not found with id: " + eventDetails.getCollege().getId()));
+                .orElseThrow(() -> new BadRequestException("College not found with id: " + eventDetails.getCollege().getId()));
         
         event.setName(eventDetails.getName());
         event.setDescription(eventDetails.getDescription());
@@ -83,19 +123,30 @@ public class EventService {
         event.setIsActive(eventDetails.getIsActive());
         event.setCollege(college);
         
-        return eventRepository.save(event);
+        Event updatedEvent = eventRepository.save(event);
+        // A larger capacity or reactivation frees seats for the waitlist; the seats are reserved in the database,
+        // so mirror them on the loaded entity for the response
+        int promoted = registrationService.promoteFromWaitlist(id);
+        updatedEvent.setCurrentRegistrations(updatedEvent.getCurrentRegistrations() + promoted);
+        searchIndexService.indexEvent(updatedEvent);
+        checkInService.eventChanged(id, updatedEvent.getIsActive());
+        return EventResponse.from(updatedEvent);
     }
     
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#id")
     public void deleteEvent(Long id) {
         Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + id));
+                .orElseThrow(() -> new BadRequestException("Event not found with id: " + id));
         eventRepository.delete(event);
+        eventStatisticsService.removeEvent(id);
+        searchIndexService.removeEvent(id);
+        checkInService.eventRemoved(id);
     }
     
     public void updateEventRegistrationCount(Long eventId) {
         // This will be called by RegistrationService when registrations are added/removed
         // The actual count will be calculated from RegistrationRepository
         eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+                .orElseThrow(() -> new BadRequestException("Event not found with id: " + eventId));
     }
 }
@@ -0,0 +1,132 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.entity.EventStatistics;
+import com.acharya.collegeeventmanagement.repository.EventStatisticsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Transactional
+public class EventStatisticsService {
+    
+    @Autowired
+    private EventStatisticsRepository eventStatisticsRepository;
+    
+    @Autowired
+    private LiveCountService liveCountService;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Transactional(readOnly = true)
+    public Optional<EventStatistics> getStatistics(Long eventId) {
+        return eventStatisticsRepository.findById(eventId);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Long> getEventIdsByStudentId(Long studentId) {
+        return eventStatisticsRepository.findEventIdsByStudentId(studentId);
+    }
+    
+    public void initializeEvent(Long eventId) {
+        eventStatisticsRepository.insertComputedRows(eventId);
+    }
+    
+    public void removeEvent(Long eventId) {
+        eventStatisticsRepository.deleteRow(eventId);
+        afterCommit(() -> liveCountService.eventRemoved(eventId));
+    }
+    
+    public void registrationAdded(Long eventId) {
+        ensureUpdated(eventStatisticsRepository.adjustRegistrationCount(eventId, 1), eventId);
+        countsChanged(eventId);
+    }
+    
+    public void registrationsAdded(Long eventId, long count) {
+        if (count != 0) {
+            ensureUpdated(eventStatisticsRepository.adjustRegistrationCount(eventId, count), eventId);
+            countsChanged(eventId);
+        }
+    }
+    
+    public void registrationRemoved(Long eventId) {
+        ensureUpdated(eventStatisticsRepository.adjustRegistrationCount(eventId, -1), eventId);
+        countsChanged(eventId);
+    }
+    
+    public void presentCountChanged(Long eventId, long delta) {
+        if (delta != 0) {
+            ensureUpdated(eventStatisticsRepository.adjustPresentCount(eventId, delta), eventId);
+            countsChanged(eventId);
+        }
+    }
+    
+    public void feedbackAdded(Long eventId, Integer rating) {
+        ensureUpdated(eventStatisticsRepository.adjustFeedback(eventId, rating, 1, rating), eventId);
+    }
+    
+    public void feedbackChanged(Long eventId, Integer oldRating, Integer newRating) {
+        if (!oldRating.equals(newRating)) {
+            ensureUpdated(eventStatisticsRepository.changeFeedbackRating(eventId, oldRating, newRating, newRating - oldRating), eventId);
+        }
+    }
+    
+    public void feedbackRemoved(Long eventId, Integer rating) {
+        ensureUpdated(eventStatisticsRepository.adjustFeedback(eventId, rating, -1, -rating), eventId);
+    }
+    
+    public void rebuildEvents(Collection<Long> eventIds) {
+        for (Long eventId : eventIds) {
+            rebuildEvent(eventId);
+            countsChanged(eventId);
+        }
+    }
+    
+    public int rebuildAll() {
+        eventStatisticsRepository.deleteAllRows();
+        afterCommit(liveCountService::allCountsChanged);
+        return eventStatisticsRepository.insertComputedRows(null);
+    }
+    
+    private void rebuildEvent(Long eventId) {
+        eventStatisticsRepository.deleteRow(eventId);
+        eventStatisticsRepository.insertComputedRows(eventId);
+    }
+    
+    // A missing row (e.g. an event created before the table existed) is recomputed from the raw tables instead of
+    // adjusted. The current write is flushed first so the rebuild counts it; the native rebuild would not flush it.
+    private void ensureUpdated(int updatedRows, Long eventId) {
+        if (updatedRows == 0) {
+            entityManager.flush();
+            rebuildEvent(eventId);
+            countsChanged(eventId);
+        }
+    }
+    
+    private void countsChanged(Long eventId) {
+        afterCommit(() -> liveCountService.countsChanged(eventId));
+    }
+    
+    // Live count subscribers only hear about committed changes
+    private void afterCommit(Runnable notification) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notification.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notification.run();
+            }
+        });
+    }
+}
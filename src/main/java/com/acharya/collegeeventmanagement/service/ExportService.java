@@ -0,0 +1,270 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.dto.AttendanceReport;
+import com.acharya.collegeeventmanagement.dto.AttendanceResponse;
+import com.acharya.collegeeventmanagement.dto.EventPopularityReport;
+import com.acharya.collegeeventmanagement.dto.FeedbackResponse;
+import com.acharya.collegeeventmanagement.dto.RegistrationResponse;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
+import com.acharya.collegeeventmanagement.repository.AttendanceRepository;
+import com.acharya.collegeeventmanagement.repository.EventRepository;
+import com.acharya.collegeeventmanagement.repository.FeedbackRepository;
+import com.acharya.collegeeventmanagement.repository.RegistrationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// CSV and NDJSON exports. Rows go from a forward-only cursor straight to the response, so memory stays flat
+// however many rows an event has. Each export is one read-only transaction on the reader pool, so it sees a
+// single snapshot and never holds up the writer.
+@Service
+public class ExportService {
+    
+    public enum Format {
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        NDJSON(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8), "ndjson");
+        
+        private final MediaType mediaType;
+        
+        private final String extension;
+        
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+        
+        public MediaType mediaType() {
+            return mediaType;
+        }
+        
+        public String contentDisposition(String baseName) {
+            return ContentDisposition.attachment().filename(baseName + "." + extension).build().toString();
+        }
+        
+        public static Format from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported export format: " + value + " (use csv or ndjson)");
+            }
+        }
+    }
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    @Autowired
+    private RegistrationRepository registrationRepository;
+    
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private LookupService lookupService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    // Programmatic rather than @Transactional: SqliteBusyRetryAspect would rerun a half-written export
+    private TransactionTemplate readOnlyTransaction;
+    
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+    
+    // Confirmed registrations, like GET /api/registrations/event/{eventId}
+    public StreamingResponseBody registrationsByEvent(Long eventId, Format format) {
+        requireEvent(eventId);
+        return out -> export(() -> registrationRepository.streamConfirmedResponsesByEventId(eventId),
+                RegistrationResponse.class, format, out);
+    }
+    
+    public StreamingResponseBody attendanceByEvent(Long eventId, Format format) {
+        requireEvent(eventId);
+        return out -> export(() -> attendanceRepository.streamResponsesByEventId(eventId),
+                AttendanceResponse.class, format, out);
+    }
+    
+    public StreamingResponseBody feedbackByEvent(Long eventId, Format format) {
+        requireEvent(eventId);
+        return out -> export(() -> feedbackRepository.streamResponsesByEventId(eventId),
+                FeedbackResponse.class, format, out);
+    }
+    
+    // Report exports come in event id order; sorting by score would mean reading every row before the first write
+    public StreamingResponseBody eventPopularityReport(Format format) {
+        return out -> export(eventRepository::streamEventPopularityReport, EventPopularityReport.class, format, out);
+    }
+    
+    public StreamingResponseBody attendanceReport(Format format) {
+        return out -> export(eventRepository::streamAttendanceReports, AttendanceReport.class, format, out);
+    }
+    
+    // Error bodies for the export endpoints, which can only return a StreamingResponseBody
+    public StreamingResponseBody errorBody(String message) {
+        return out -> objectMapper.writeValue(out, Map.of("error", message));
+    }
+    
+    // Checked before the response starts, while a 400 can still be sent
+    private void requireEvent(Long eventId) {
+        if (lookupService.findEvent(eventId).isEmpty()) {
+            throw new BadRequestException("Event not found with id: " + eventId);
+        }
+    }
+    
+    private <T extends Record> void export(Supplier<Stream<T>> query, Class<T> rowType, Format format, OutputStream out) {
+        OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<T> rows = query.get()) {
+                if (format == Format.CSV) {
+                    writeCsv(rows, rowType, buffered);
+                } else {
+                    writeNdjson(rows, buffered);
+                }
+                buffered.flush();
+            } catch (IOException e) {
+                // Usually the client went away; closing the stream releases the cursor and the transaction ends
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+    
+    private void writeNdjson(Stream<?> rows, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer();
+        Iterator<?> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            out.write(writer.writeValueAsBytes(iterator.next()));
+            out.write('\n');
+        }
+    }
+    
+    private <T extends Record> void writeCsv(Stream<T> rows, Class<T> rowType, OutputStream out) throws IOException {
+        List<Column> columns = columns(rowType, "", List.of());
+        List<String> header = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            header.add(column.name());
+        }
+        writeCsvLine(header, out);
+        
+        List<String> values = new ArrayList<>(columns.size());
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            values.clear();
+            for (Column column : columns) {
+                values.add(format(column.read(row)));
+            }
+            writeCsvLine(values, out);
+        }
+    }
+    
+    private static void writeCsvLine(List<String> values, OutputStream out) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(quote(values.get(i)));
+        }
+        line.append("\r\n");
+        out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    // RFC 4180: quote fields containing a separator, quote or line break, doubling embedded quotes
+    private static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+    
+    // Same text as the JSON responses: ISO timestamps with seconds, empty for null
+    private static String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+        }
+        if (value instanceof String text) {
+            return neutralizeFormula(text);
+        }
+        return value.toString();
+    }
+    
+    // Spreadsheets run a cell starting with one of these as a formula; a leading quote keeps user text as text.
+    // Only strings are guarded, so negative numbers still export as numbers.
+    private static String neutralizeFormula(String text) {
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            return "'" + text;
+        }
+        return text;
+    }
+    
+    // Nested records (student, event) flatten into dotted columns such as student.studentId
+    private static List<Column> columns(Class<?> recordType, String prefix, List<Method> path) {
+        List<Column> columns = new ArrayList<>();
+        for (RecordComponent component : recordType.getRecordComponents()) {
+            List<Method> componentPath = new ArrayList<>(path);
+            componentPath.add(component.getAccessor());
+            if (component.getType().isRecord()) {
+                columns.addAll(columns(component.getType(), prefix + component.getName() + ".", componentPath));
+            } else {
+                columns.add(new Column(prefix + component.getName(), componentPath));
+            }
+        }
+        return columns;
+    }
+    
+    private record Column(String name, List<Method> path) {
+        
+        Object read(Object row) {
+            Object value = row;
+            for (Method accessor : path) {
+                if (value == null) {
+                    return null;
+                }
+                try {
+                    value = accessor.invoke(value);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Cannot read export column " + name, e);
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.acharya.collegeeventmanagement.service;
 
-import com.acharya.collegeeventmanagement.entity.Event;
+import com.acharya.collegeeventmanagement.dto.CursorPage;
+import com.acharya.collegeeventmanagement.dto.EventResponse;
+import com.acharya.collegeeventmanagement.dto.FeedbackResponse;
+import com.acharya.collegeeventmanagement.dto.KeysetPageRequest;
+import com.acharya.collegeeventmanagement.dto.StudentResponse;
+import com.acharya.collegeeventmanagement.entity.EventStatistics;
 import com.acharya.collegeeventmanagement.entity.Feedback;
-import com.acharya.collegeeventmanagement.entity.Student;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
 import com.acharya.collegeeventmanagement.repository.EventRepository;
 import com.acharya.collegeeventmanagement.repository.FeedbackRepository;
 import com.acharya.collegeeventmanagement.repository.StudentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -26,65 +32,110 @@ public class FeedbackService {
     @Autowired
     private EventRepository eventRepository;
     
-    public Feedback submitFeedback(Long studentId, Long eventId, Integer rating, String comment) {
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + studentId));
-        
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+    @Autowired
+    private EventStatisticsService eventStatisticsService;
+    
+    @Autowired
+    private LookupService lookupService;
+    
+    @Autowired
+    private WritePipeline writePipeline;
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public FeedbackResponse submitFeedback(Long studentId, Long eventId, Integer rating, String comment) {
+        return writePipeline.execute(() -> addFeedback(studentId, eventId, rating, comment));
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public FeedbackResponse updateFeedback(Long studentId, Long eventId, Integer rating, String comment) {
+        return writePipeline.execute(() -> changeFeedback(studentId, eventId, rating, comment));
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void deleteFeedback(Long feedbackId) {
+        writePipeline.run(() -> removeFeedback(feedbackId));
+    }
+    
+    private FeedbackResponse addFeedback(Long studentId, Long eventId, Integer rating, String comment) {
+        // Existence checks come from the lookup cache; the new row only needs references
+        StudentResponse student = lookupService.findStudent(studentId)
+                .orElseThrow(() -> new BadRequestException("Student not found with id: " + studentId));
+        EventResponse event = lookupService.findEvent(eventId)
+                .orElseThrow(() -> new BadRequestException("Event not found with id: " + eventId));
         
-        if (!event.getIsActive()) {
-            throw new RuntimeException("Event is not active");
+        if (!event.isActive()) {
+            throw new BadRequestException("Event is not active");
         }
         
         // Check if feedback already exists
         if (feedbackRepository.existsByStudentIdAndEventId(studentId, eventId)) {
-            throw new RuntimeException("Student has already submitted feedback for this event");
+            throw new BadRequestException("Student has already submitted feedback for this event");
         }
         
-        Feedback feedback = new Feedback(student, event, rating, comment);
-        return feedbackRepository.save(feedback);
+        Feedback feedback = new Feedback(studentRepository.getReferenceById(studentId), eventRepository.getReferenceById(eventId),
+                rating, comment);
+        Feedback savedFeedback = feedbackRepository.save(feedback);
+        eventStatisticsService.feedbackAdded(eventId, rating);
+        return new FeedbackResponse(savedFeedback.getId(), student.summary(), event.summary(),
+                savedFeedback.getRating(), savedFeedback.getComment(), savedFeedback.getFeedbackDate());
     }
     
-    public Feedback updateFeedback(Long studentId, Long eventId, Integer rating, String comment) {
+    private FeedbackResponse changeFeedback(Long studentId, Long eventId, Integer rating, String comment) {
         Feedback feedback = feedbackRepository.findByStudentIdAndEventId(studentId, eventId)
-                .orElseThrow(() -> new RuntimeException("Feedback not found"));
+                .orElseThrow(() -> new BadRequestException("Feedback not found"));
         
+        Integer oldRating = feedback.getRating();
         feedback.setRating(rating);
         feedback.setComment(comment);
         feedback.setFeedbackDate(java.time.LocalDateTime.now());
+        Feedback savedFeedback = feedbackRepository.save(feedback);
         
-        return feedbackRepository.save(feedback);
+        eventStatisticsService.feedbackChanged(eventId, oldRating, rating);
+        return FeedbackResponse.from(savedFeedback);
     }
     
-    public List<Feedback> getFeedbacksByEventId(Long eventId) {
-        return feedbackRepository.findFeedbacksByEventIdOrderByDateDesc(eventId);
+    @Transactional(readOnly = true)
+    public List<FeedbackResponse> getFeedbacksByEventId(Long eventId) {
+        return feedbackRepository.findResponsesByEventIdOrderByDateDesc(eventId);
     }
     
-    public List<Feedback> getFeedbacksByStudentId(Long studentId) {
-        return feedbackRepository.findByStudentId(studentId);
+    @Transactional(readOnly = true)
+    public List<FeedbackResponse> getFeedbacksByStudentId(Long studentId) {
+        return feedbackRepository.findResponsesByStudentId(studentId);
     }
     
-    public Optional<Feedback> getFeedbackByStudentAndEvent(Long studentId, Long eventId) {
-        return feedbackRepository.findByStudentIdAndEventId(studentId, eventId);
+    @Transactional(readOnly = true)
+    public Optional<FeedbackResponse> getFeedbackByStudentAndEvent(Long studentId, Long eventId) {
+        return feedbackRepository.findResponseByStudentIdAndEventId(studentId, eventId);
     }
     
+    @Transactional(readOnly = true)
     public Double getAverageRatingByEventId(Long eventId) {
-        Double averageRating = feedbackRepository.findAverageRatingByEventId(eventId);
+        Double averageRating = eventStatisticsService.getStatistics(eventId)
+                .map(EventStatistics::getAverageRating)
+                .orElse(null);
         return averageRating != null ? averageRating : 0.0;
     }
     
+    @Transactional(readOnly = true)
     public Long getFeedbackCountByEventId(Long eventId) {
-        return feedbackRepository.countFeedbacksByEventId(eventId);
+        return eventStatisticsService.getStatistics(eventId)
+                .map(EventStatistics::getFeedbackCount)
+                .orElse(0L);
     }
     
-    public List<Feedback> getAllFeedbacks() {
-        return feedbackRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<FeedbackResponse> getFeedbacksPage(KeysetPageRequest pageRequest) {
+        List<FeedbackResponse> feedbacks = pageRequest.isDescending()
+                ? feedbackRepository.findResponsesByIdLessThan(pageRequest.getAnchorId(), pageRequest.toPageable())
+                : feedbackRepository.findResponsesByIdGreaterThan(pageRequest.getAnchorId(), pageRequest.toPageable());
+        return pageRequest.toPage(feedbacks, FeedbackResponse::id);
     }
     
-    public void deleteFeedback(Long feedbackId) {
+    private void removeFeedback(Long feedbackId) {
         Feedback feedback = feedbackRepository.findById(feedbackId)
-                .orElseThrow(() -> new RuntimeException("Feedback not found with id: " + feedbackId));
+                .orElseThrow(() -> new BadRequestException("Feedback not found with id: " + feedbackId));
         feedbackRepository.delete(feedback);
+        eventStatisticsService.feedbackRemoved(feedback.getEvent().getId(), feedback.getRating());
     }
 }
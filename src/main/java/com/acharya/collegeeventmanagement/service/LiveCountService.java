@@ -0,0 +1,308 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.dto.LiveCounts;
+import com.acharya.collegeeventmanagement.entity.EventStatistics;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
+import com.acharya.collegeeventmanagement.exception.TooManyRequestsException;
+import com.acharya.collegeeventmanagement.repository.EventStatisticsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Server-Sent Events for live registration and attendance counts. Writers only flag an event after their commit;
+// a ticker re-reads the flagged events' counts at most max-updates-per-second times a second and hands each
+// subscriber's message to a virtual thread. A subscriber still busy with its last message is skipped and gets the
+// latest counts on a later tick, so a slow client neither holds up the writer nor the other subscribers.
+@Service
+public class LiveCountService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LiveCountService.class);
+    
+    @Autowired
+    private EventStatisticsRepository eventStatisticsRepository;
+    
+    @Autowired
+    private LookupService lookupService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${live-counts.max-updates-per-second:4}")
+    private int maxUpdatesPerSecond;
+    
+    @Value("${live-counts.max-subscribers:1000}")
+    private int maxSubscribers;
+    
+    @Value("${live-counts.timeout-minutes:30}")
+    private long timeoutMinutes;
+    
+    @Value("${live-counts.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+    
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    
+    private TransactionTemplate readOnlyTransaction;
+    
+    private ScheduledExecutorService ticker;
+    
+    private ExecutorService senders;
+    
+    @PostConstruct
+    public void start() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        
+        meterRegistry.gauge("live.counts.subscribers", subscriberCount);
+        
+        senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("live-counts-send-", 0).factory());
+        ticker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("live-counts").daemon().factory());
+        long periodMillis = Math.max(1000 / maxUpdatesPerSecond, 1);
+        ticker.scheduleAtFixedRate(this::tick, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+        senders.shutdown();
+    }
+    
+    public SseEmitter subscribe(Long eventId) {
+        if (lookupService.findEvent(eventId).isEmpty()) {
+            throw new BadRequestException("Event not found with id: " + eventId);
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new TooManyRequestsException("Too many live count subscribers, please retry shortly");
+        }
+        
+        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(timeoutMinutes));
+        Subscriber subscriber = new Subscriber(emitter);
+        // Held until the snapshot below is queued, so the ticker cannot send ahead of it
+        subscriber.sending.set(true);
+        channels.compute(eventId, (id, channel) -> {
+            Channel target = channel != null ? channel : new Channel(id);
+            target.subscribers.add(subscriber);
+            return target;
+        });
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(eventId, subscriber));
+        emitter.onCompletion(() -> unsubscribe(eventId, subscriber));
+        
+        // Read after joining the channel: any commit from here on flags it for the ticker
+        Counts snapshot = readCounts(List.of(eventId)).getOrDefault(eventId, Counts.ZERO);
+        try {
+            send(eventId, subscriber, snapshot);
+        } finally {
+            subscriber.sending.set(false);
+        }
+        return emitter;
+    }
+    
+    // Error bodies for the live count endpoint, which can only return an emitter
+    public ResponseBodyEmitter errorBody(String message) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        try {
+            emitter.send(Map.of("error", message), MediaType.APPLICATION_JSON);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        emitter.complete();
+        return emitter;
+    }
+    
+    // Runs on the writing thread after commit, so it only flags the event
+    public void countsChanged(Long eventId) {
+        Channel channel = channels.get(eventId);
+        if (channel != null) {
+            channel.dirty.set(true);
+        }
+    }
+    
+    public void allCountsChanged() {
+        for (Channel channel : channels.values()) {
+            channel.dirty.set(true);
+        }
+    }
+    
+    public void eventRemoved(Long eventId) {
+        Channel channel = channels.get(eventId);
+        if (channel != null) {
+            for (Subscriber subscriber : channel.subscribers) {
+                // complete() waits for a send in progress, which may be stuck on a slow client
+                senders.execute(subscriber.emitter::complete);
+            }
+        }
+    }
+    
+    private void tick() {
+        try {
+            refreshChangedCounts();
+            
+            long now = System.nanoTime();
+            long heartbeatNanos = TimeUnit.SECONDS.toNanos(heartbeatSeconds);
+            for (Channel channel : channels.values()) {
+                Counts counts = channel.counts;
+                for (Subscriber subscriber : channel.subscribers) {
+                    boolean changed = counts != null && !counts.equals(subscriber.lastSent);
+                    boolean idle = now - subscriber.lastSentNanos > heartbeatNanos;
+                    if ((changed || idle) && subscriber.sending.compareAndSet(false, true)) {
+                        senders.execute(() -> {
+                            try {
+                                send(channel.eventId, subscriber, changed ? counts : null);
+                            } finally {
+                                subscriber.sending.set(false);
+                            }
+                        });
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // A scheduled task that throws is never run again
+            logger.warn("Live count update failed", e);
+        }
+    }
+    
+    private void refreshChangedCounts() {
+        List<Long> changed = new ArrayList<>();
+        for (Channel channel : channels.values()) {
+            if (channel.dirty.getAndSet(false)) {
+                changed.add(channel.eventId);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        
+        Map<Long, Counts> counts;
+        try {
+            counts = readCounts(changed);
+        } catch (RuntimeException e) {
+            changed.forEach(this::countsChanged);
+            throw e;
+        }
+        for (Long eventId : changed) {
+            Channel channel = channels.get(eventId);
+            if (channel != null) {
+                channel.counts = counts.getOrDefault(eventId, Counts.ZERO);
+            }
+        }
+    }
+    
+    // Absolute counts rather than summed deltas, so a write rolled back inside a committed batch cannot skew them
+    private Map<Long, Counts> readCounts(Collection<Long> eventIds) {
+        return readOnlyTransaction.execute(status -> {
+            Map<Long, Counts> counts = new HashMap<>();
+            for (EventStatistics statistics : eventStatisticsRepository.findAllById(eventIds)) {
+                counts.put(statistics.getEventId(),
+                        new Counts(statistics.getRegistrationCount(), statistics.getPresentCount()));
+            }
+            return counts;
+        });
+    }
+    
+    // A null counts sends a keep-alive comment, which also finds clients that have gone away
+    private void send(Long eventId, Subscriber subscriber, Counts counts) {
+        try {
+            if (counts == null) {
+                subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+            } else {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name("counts")
+                        .data(counts.toMessage(eventId, subscriber.lastSent), MediaType.APPLICATION_JSON));
+                subscriber.lastSent = counts;
+            }
+            subscriber.lastSentNanos = System.nanoTime();
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter has already completed
+            logger.debug("Dropping live count subscriber for event {}", eventId, e);
+            unsubscribe(eventId, subscriber);
+        }
+    }
+    
+    private void unsubscribe(Long eventId, Subscriber subscriber) {
+        channels.computeIfPresent(eventId, (id, channel) -> {
+            if (channel.subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+    
+    private static final class Channel {
+        
+        private final Long eventId;
+        
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        
+        // Starts flagged so the ticker loads the counts of a new channel
+        private final AtomicBoolean dirty = new AtomicBoolean(true);
+        
+        private volatile Counts counts;
+        
+        private Channel(Long eventId) {
+            this.eventId = eventId;
+        }
+    }
+    
+    private static final class Subscriber {
+        
+        private final SseEmitter emitter;
+        
+        private final AtomicBoolean sending = new AtomicBoolean();
+        
+        private volatile Counts lastSent;
+        
+        private volatile long lastSentNanos = System.nanoTime();
+        
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+    
+    private record Counts(long registrations, long attendance) {
+        
+        private static final Counts ZERO = new Counts(0, 0);
+        
+        private LiveCounts toMessage(Long eventId, Counts previous) {
+            Counts base = previous != null ? previous : this;
+            return new LiveCounts(eventId, registrations, attendance,
+                    registrations - base.registrations, attendance - base.attendance);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.config.CacheConfig;
+import com.acharya.collegeeventmanagement.dto.CollegeResponse;
+import com.acharya.collegeeventmanagement.dto.EventResponse;
+import com.acharya.collegeeventmanagement.dto.StudentResponse;
+import com.acharya.collegeeventmanagement.repository.CollegeRepository;
+import com.acharya.collegeeventmanagement.repository.EventRepository;
+import com.acharya.collegeeventmanagement.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// Cached single-row lookups shared by the services. The owning services (CollegeService, EventService,
+// StudentService) evict entries when they change a row; RegistrationService evicts events whose seat count moves.
+@Service
+@Transactional(readOnly = true)
+public class LookupService {
+    
+    @Autowired
+    private CollegeRepository collegeRepository;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Cacheable(cacheNames = CacheConfig.COLLEGES, key = "#id", unless = "#result == null")
+    public Optional<CollegeResponse> findCollege(Long id) {
+        return collegeRepository.findResponseById(id);
+    }
+    
+    @Cacheable(cacheNames = CacheConfig.EVENTS, key = "#id", unless = "#result == null")
+    public Optional<EventResponse> findEvent(Long id) {
+        return eventRepository.findResponseById(id);
+    }
+    
+    @Cacheable(cacheNames = CacheConfig.STUDENTS, key = "#id", unless = "#result == null")
+    public Optional<StudentResponse> findStudent(Long id) {
+        return studentRepository.findResponseById(id);
+    }
+}
@@ -0,0 +1,166 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.dto.RegistrationResponse;
+import com.acharya.collegeeventmanagement.dto.RegistrationTicket;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
+import com.acharya.collegeeventmanagement.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+// Registration intake for opening rushes: requests are queued and answered with a ticket straight away, and
+// virtual-thread consumers hand them to the write pipeline a batch at a time. Every ticket is its own pipeline
+// write, so tickets share group commits but each one succeeds or fails on its own. Each event always maps to
+// the same consumer, so its tickets are processed in arrival order.
+@Service
+public class RegistrationIntakeService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationIntakeService.class);
+    
+    @Autowired
+    private RegistrationService registrationService;
+    
+    @Autowired
+    private WritePipeline writePipeline;
+    
+    @Value("${registration.intake.queue-capacity:10000}")
+    private int queueCapacity;
+    
+    @Value("${registration.intake.consumers:1}")
+    private int consumerCount;
+    
+    @Value("${registration.intake.batch-size:200}")
+    private int batchSize;
+    
+    @Value("${registration.intake.ticket-ttl-minutes:30}")
+    private long ticketTtlMinutes;
+    
+    @Value("${registration.intake.max-tickets:100000}")
+    private long maxTickets;
+    
+    private Cache<String, RegistrationTicket> tickets;
+    
+    private final List<BlockingQueue<RegistrationTicket>> queues = new ArrayList<>();
+    
+    private final List<Thread> consumers = new ArrayList<>();
+    
+    private volatile boolean running;
+    
+    @PostConstruct
+    public void start() {
+        // Finished tickets only need to live long enough for clients to poll them, and a burst must not
+        // grow the heap without bound; keep max-tickets well above queue-capacity so pending ones stay
+        tickets = Caffeine.newBuilder()
+                .maximumSize(maxTickets)
+                .expireAfterWrite(Duration.ofMinutes(ticketTtlMinutes))
+                .build();
+        
+        running = true;
+        int perConsumerCapacity = Math.max(queueCapacity / consumerCount, 1);
+        for (int i = 0; i < consumerCount; i++) {
+            BlockingQueue<RegistrationTicket> queue = new ArrayBlockingQueue<>(perConsumerCapacity);
+            queues.add(queue);
+            consumers.add(Thread.ofVirtual().name("registration-intake-" + i).start(() -> drainLoop(queue)));
+        }
+    }
+    
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread consumer : consumers) {
+            consumer.join(Duration.ofSeconds(10));
+        }
+    }
+    
+    public RegistrationTicket submit(Long studentId, Long eventId) {
+        RegistrationTicket ticket = RegistrationTicket.queued(UUID.randomUUID().toString(), studentId, eventId);
+        tickets.put(ticket.ticketId(), ticket);
+        
+        BlockingQueue<RegistrationTicket> queue = queues.get(Math.floorMod(eventId.hashCode(), queues.size()));
+        if (!queue.offer(ticket)) {
+            tickets.invalidate(ticket.ticketId());
+            throw new TooManyRequestsException("Registration queue is full, please retry shortly");
+        }
+        return ticket;
+    }
+    
+    public Optional<RegistrationTicket> getTicket(String ticketId) {
+        return Optional.ofNullable(tickets.getIfPresent(ticketId));
+    }
+    
+    private void drainLoop(BlockingQueue<RegistrationTicket> queue) {
+        List<RegistrationTicket> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                RegistrationTicket first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Never let one bad batch stop the consumer
+                logger.error("Failed to process {} registration tickets", batch.size(), e);
+                for (RegistrationTicket ticket : batch) {
+                    complete(ticket.failed("Registration could not be processed"));
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void processBatch(List<RegistrationTicket> batch) {
+        List<CompletableFuture<RegistrationResponse>> results = new ArrayList<>(batch.size());
+        for (RegistrationTicket ticket : batch) {
+            try {
+                results.add(writePipeline.submit(
+                        () -> registrationService.registerStudentToEvent(ticket.studentId(), ticket.eventId())));
+            } catch (RuntimeException e) {
+                results.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        
+        for (int i = 0; i < batch.size(); i++) {
+            RegistrationTicket ticket = batch.get(i);
+            try {
+                complete(ticket.registered(results.get(i).join().id()));
+            } catch (CompletionException e) {
+                complete(ticket.failed(errorMessage(ticket, e.getCause())));
+            }
+        }
+    }
+    
+    private String errorMessage(RegistrationTicket ticket, Throwable error) {
+        if (error instanceof BadRequestException || error instanceof TooManyRequestsException) {
+            return error.getMessage();
+        }
+        logger.error("Failed to process registration ticket {}", ticket.ticketId(), error);
+        return "Registration could not be processed";
+    }
+    
+    private void complete(RegistrationTicket ticket) {
+        tickets.put(ticket.ticketId(), ticket);
+    }
+}
@@ -1,17 +1,38 @@
 package com.acharya.collegeeventmanagement.service;
 
+import com.acharya.collegeeventmanagement.config.CacheConfig;
+import com.acharya.collegeeventmanagement.dto.BulkRegistrationResult;
+import com.acharya.collegeeventmanagement.dto.CursorPage;
+import com.acharya.collegeeventmanagement.dto.EventResponse;
+import com.acharya.collegeeventmanagement.dto.KeysetPageRequest;
+import com.acharya.collegeeventmanagement.dto.RegistrationResponse;
+import com.acharya.collegeeventmanagement.dto.StudentResponse;
+import com.acharya.collegeeventmanagement.dto.WaitlistResponse;
 import com.acharya.collegeeventmanagement.entity.Event;
+import com.acharya.collegeeventmanagement.entity.EventStatistics;
 import com.acharya.collegeeventmanagement.entity.Registration;
 import com.acharya.collegeeventmanagement.entity.Student;
+import com.acharya.collegeeventmanagement.entity.WaitlistEntry;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
 import com.acharya.collegeeventmanagement.repository.EventRepository;
 import com.acharya.collegeeventmanagement.repository.RegistrationRepository;
 import com.acharya.collegeeventmanagement.repository.StudentRepository;
+import com.acharya.collegeeventmanagement.repository.WaitlistEntryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -26,65 +47,259 @@ public class RegistrationService {
     @Autowired
     private EventRepository eventRepository;
     
-    public Registration registerStudentToEvent(Long studentId, Long eventId) {
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + studentId));
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+    
+    @Autowired
+    private EventStatisticsService eventStatisticsService;
+    
+    @Autowired
+    private LookupService lookupService;
+    
+    @Autowired
+    private WritePipeline writePipeline;
+    
+    @Value("${registration.bulk.max-students:1000}")
+    private int bulkMaxStudents;
+    
+    // Cached events carry currentRegistrations, so every method that moves seats evicts the event
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId")
+    public RegistrationResponse registerStudentToEvent(Long studentId, Long eventId) {
+        return writePipeline.execute(() -> register(studentId, eventId));
+    }
+    
+    private RegistrationResponse register(Long studentId, Long eventId) {
+        StudentResponse student = lookupService.findStudent(studentId)
+                .orElseThrow(() -> new BadRequestException("Student not found with id: " + studentId));
         
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+        if (registrationRepository.existsByStudentIdAndEventId(studentId, eventId)) {
+            throw new BadRequestException("Student is already registered for this event");
+        }
         
-        if (!event.getIsActive()) {
-            throw new RuntimeException("Event is not active");
+        // Reserve a seat atomically; only look at the event to explain why the reservation failed
+        EventResponse event = lookupService.findEvent(eventId)
+                .orElseThrow(() -> new BadRequestException("Event not found with id: " + eventId));
+        if (eventRepository.reserveSeat(eventId) == 0) {
+            if (!event.isActive()) {
+                throw new BadRequestException("Event is not active");
+            }
+            throw new BadRequestException("Event is at full capacity, join the waitlist instead");
         }
         
-        if (registrationRepository.existsByStudentIdAndEventId(studentId, eventId)) {
-            throw new RuntimeException("Student is already registered for this event");
+        Registration registration = new Registration(studentRepository.getReferenceById(studentId),
+                eventRepository.getReferenceById(eventId));
+        Registration savedRegistration = registrationRepository.save(registration);
+        eventStatisticsService.registrationAdded(eventId);
+        waitlistEntryRepository.findByStudentIdAndEventId(studentId, eventId).ifPresent(waitlistEntryRepository::delete);
+        
+        return new RegistrationResponse(savedRegistration.getId(), student.summary(), event.summary(),
+                savedRegistration.getRegistrationDate(), savedRegistration.getIsConfirmed());
+    }
+    
+    // Registers a whole list of students with a fixed number of queries: one lookup for existing students,
+    // one for existing registrations, one seat reservation and batched inserts. Students beyond the remaining
+    // capacity are reported as EVENT_FULL in request order instead of failing the whole call; so are students
+    // who lose their seats to registrations committed while this one ran.
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId")
+    public BulkRegistrationResult registerStudentsToEvent(Long eventId, List<Long> studentIds) {
+        if (studentIds.size() > bulkMaxStudents) {
+            throw new BadRequestException("Cannot register more than " + bulkMaxStudents + " students at once");
         }
         
-        if (event.getCurrentRegistrations() >= event.getMaxCapacity()) {
-            throw new RuntimeException("Event is at full capacity");
+        EventResponse event = lookupService.findEvent(eventId)
+                .orElseThrow(() -> new BadRequestException("Event not found with id: " + eventId));
+        if (!event.isActive()) {
+            throw new BadRequestException("Event is not active");
         }
         
-        Registration registration = new Registration(student, event);
-        Registration savedRegistration = registrationRepository.save(registration);
+        Set<Long> requestedIds = new LinkedHashSet<>(studentIds);
+        requestedIds.remove(null);
+        Set<Long> existingStudentIds = new HashSet<>(studentRepository.findExistingIds(requestedIds));
+        Set<Long> registeredStudentIds = new HashSet<>(registrationRepository.findRegisteredStudentIds(eventId, requestedIds));
         
-        // Update event registration count
-        event.setCurrentRegistrations(event.getCurrentRegistrations() + 1);
-        eventRepository.save(event);
+        List<Long> candidates = new ArrayList<>();
+        for (Long studentId : requestedIds) {
+            if (existingStudentIds.contains(studentId) && !registeredStudentIds.contains(studentId)) {
+                candidates.add(studentId);
+            }
+        }
         
-        return savedRegistration;
+        // Reserve every seat we can fill in a single conditional update. If another registration takes seats
+        // between the read and the update, the update matches nothing: read the free seats again and ask for fewer.
+        int seats;
+        do {
+            int freeSeats = eventRepository.findFreeSeats(eventId).orElse(0);
+            seats = Math.min(candidates.size(), Math.max(freeSeats, 0));
+        } while (seats > 0 && eventRepository.reserveSeats(eventId, seats) == 0);
+        
+        Event eventReference = eventRepository.getReferenceById(eventId);
+        List<Registration> registrations = new ArrayList<>(seats);
+        for (Long studentId : candidates.subList(0, seats)) {
+            registrations.add(new Registration(studentRepository.getReferenceById(studentId), eventReference));
+        }
+        // Ids are assigned in memory, so Hibernate sends these as JDBC batches of hibernate.jdbc.batch_size
+        registrationRepository.saveAll(registrations);
+        registrationRepository.flush();
+        eventStatisticsService.registrationsAdded(eventId, seats);
+        if (seats > 0) {
+            waitlistEntryRepository.deleteByEventIdAndStudentIds(eventId, candidates.subList(0, seats));
+        }
+        
+        Map<Long, Long> registrationIdsByStudent = new HashMap<>();
+        for (Registration registration : registrations) {
+            registrationIdsByStudent.put(registration.getStudent().getId(), registration.getId());
+        }
+        
+        List<BulkRegistrationResult.Outcome> outcomes = new ArrayList<>(studentIds.size());
+        Set<Long> seen = new HashSet<>();
+        for (Long studentId : studentIds) {
+            BulkRegistrationResult.Status status;
+            if (!seen.add(studentId)) {
+                status = BulkRegistrationResult.Status.DUPLICATE_IN_REQUEST;
+            } else if (!existingStudentIds.contains(studentId)) {
+                status = BulkRegistrationResult.Status.STUDENT_NOT_FOUND;
+            } else if (registeredStudentIds.contains(studentId)) {
+                status = BulkRegistrationResult.Status.ALREADY_REGISTERED;
+            } else if (registrationIdsByStudent.containsKey(studentId)) {
+                status = BulkRegistrationResult.Status.REGISTERED;
+            } else {
+                status = BulkRegistrationResult.Status.EVENT_FULL;
+            }
+            outcomes.add(new BulkRegistrationResult.Outcome(studentId, status, registrationIdsByStudent.get(studentId)));
+        }
+        
+        return new BulkRegistrationResult(eventId, studentIds.size(), seats, outcomes);
     }
     
-    public List<Registration> getRegistrationsByEventId(Long eventId) {
-        return registrationRepository.findConfirmedRegistrationsByEventId(eventId);
+    @Transactional(readOnly = true)
+    public List<RegistrationResponse> getRegistrationsByEventId(Long eventId) {
+        return registrationRepository.findConfirmedResponsesByEventId(eventId);
     }
     
-    public List<Registration> getRegistrationsByStudentId(Long studentId) {
-        return registrationRepository.findByStudentId(studentId);
+    @Transactional(readOnly = true)
+    public List<RegistrationResponse> getRegistrationsByStudentId(Long studentId) {
+        return registrationRepository.findResponsesByStudentId(studentId);
     }
     
-    public Optional<Registration> getRegistrationByStudentAndEvent(Long studentId, Long eventId) {
-        return registrationRepository.findByStudentIdAndEventId(studentId, eventId);
+    @Transactional(readOnly = true)
+    public Optional<RegistrationResponse> getRegistrationByStudentAndEvent(Long studentId, Long eventId) {
+        return registrationRepository.findResponseByStudentIdAndEventId(studentId, eventId);
     }
     
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId")
     public void cancelRegistration(Long studentId, Long eventId) {
+        writePipeline.run(() -> cancel(studentId, eventId));
+    }
+    
+    private void cancel(Long studentId, Long eventId) {
         Registration registration = registrationRepository.findByStudentIdAndEventId(studentId, eventId)
-                .orElseThrow(() -> new RuntimeException("Registration not found"));
+                .orElseThrow(() -> new BadRequestException("Registration not found"));
         
         registrationRepository.delete(registration);
+        if (registration.getIsConfirmed()) {
+            eventStatisticsService.registrationRemoved(eventId);
+        }
         
-        // Update event registration count
+        // Update event registration count, then hand the freed seat to the head of the waitlist in this same
+        // transaction so nobody can take it in between
+        eventRepository.releaseSeat(eventId);
+        promoteFromWaitlist(eventId);
+    }
+    
+    // Fills free seats from the front of the waitlist; also called when an event's capacity grows or it is reactivated
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId")
+    public int promoteFromWaitlist(Long eventId) {
+        int promoted = 0;
+        Optional<WaitlistEntry> head;
+        while ((head = waitlistEntryRepository.findFirstByEventIdOrderByQueueNumberAsc(eventId)).isPresent()) {
+            if (eventRepository.reserveSeat(eventId) == 0) {
+                break;
+            }
+            
+            WaitlistEntry entry = head.get();
+            if (waitlistEntryRepository.deleteEntry(entry.getId()) == 0) {
+                // Someone else promoted or removed this entry first; give the seat back and look again
+                eventRepository.releaseSeat(eventId);
+                continue;
+            }
+            registrationRepository.save(new Registration(entry.getStudent(), entry.getEvent()));
+            eventStatisticsService.registrationAdded(eventId);
+            promoted++;
+        }
+        return promoted;
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public WaitlistResponse joinWaitlist(Long studentId, Long eventId) {
+        return writePipeline.execute(() -> addToWaitlist(studentId, eventId));
+    }
+    
+    private WaitlistResponse addToWaitlist(Long studentId, Long eventId) {
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new BadRequestException("Student not found with id: " + studentId));
         Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
-        event.setCurrentRegistrations(Math.max(0, event.getCurrentRegistrations() - 1));
-        eventRepository.save(event);
+                .orElseThrow(() -> new BadRequestException("Event not found with id: " + eventId));
+        
+        if (!event.getIsActive()) {
+            throw new BadRequestException("Event is not active");
+        }
+        if (registrationRepository.existsByStudentIdAndEventId(studentId, eventId)) {
+            throw new BadRequestException("Student is already registered for this event");
+        }
+        if (waitlistEntryRepository.existsByStudentIdAndEventId(studentId, eventId)) {
+            throw new BadRequestException("Student is already on the waitlist for this event");
+        }
+        if (event.getCurrentRegistrations() < event.getMaxCapacity()) {
+            throw new BadRequestException("Event has seats available, register directly");
+        }
+        
+        WaitlistEntry entry = new WaitlistEntry(student, event, waitlistEntryRepository.findLastQueueNumber(eventId) + 1);
+        WaitlistEntry savedEntry = waitlistEntryRepository.save(entry);
+        return WaitlistResponse.from(savedEntry, waitlistEntryRepository.countAhead(eventId, savedEntry.getQueueNumber()) + 1);
+    }
+    
+    @Transactional(readOnly = true)
+    public Optional<WaitlistResponse> getWaitlistPosition(Long studentId, Long eventId) {
+        return waitlistEntryRepository.findByStudentIdAndEventId(studentId, eventId)
+                .flatMap(entry -> waitlistEntryRepository.findResponseById(entry.getId())
+                        .map(response -> response.withPosition(waitlistEntryRepository.countAhead(eventId, entry.getQueueNumber()) + 1)));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<WaitlistResponse> getWaitlistByEventId(Long eventId) {
+        List<WaitlistResponse> entries = waitlistEntryRepository.findResponsesByEventIdInQueueOrder(eventId);
+        List<WaitlistResponse> positioned = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            positioned.add(entries.get(i).withPosition(i + 1));
+        }
+        return positioned;
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void leaveWaitlist(Long studentId, Long eventId) {
+        writePipeline.run(() -> removeFromWaitlist(studentId, eventId));
+    }
+    
+    private void removeFromWaitlist(Long studentId, Long eventId) {
+        WaitlistEntry entry = waitlistEntryRepository.findByStudentIdAndEventId(studentId, eventId)
+                .orElseThrow(() -> new BadRequestException("Student is not on the waitlist for this event"));
+        waitlistEntryRepository.delete(entry);
     }
     
+    @Transactional(readOnly = true)
     public Long getRegistrationCountByEventId(Long eventId) {
-        return registrationRepository.countConfirmedRegistrationsByEventId(eventId);
+        return eventStatisticsService.getStatistics(eventId)
+                .map(EventStatistics::getRegistrationCount)
+                .orElse(0L);
     }
     
-    public List<Registration> getAllRegistrations() {
-        return registrationRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<RegistrationResponse> getRegistrationsPage(KeysetPageRequest pageRequest) {
+        List<RegistrationResponse> registrations = pageRequest.isDescending()
+                ? registrationRepository.findResponsesByIdLessThan(pageRequest.getAnchorId(), pageRequest.toPageable())
+                : registrationRepository.findResponsesByIdGreaterThan(pageRequest.getAnchorId(), pageRequest.toPageable());
+        return pageRequest.toPage(registrations, RegistrationResponse::id);
     }
 }
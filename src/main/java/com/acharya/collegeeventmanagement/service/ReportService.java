@@ -1,24 +1,31 @@
 package com.acharya.collegeeventmanagement.service;
 
-import com.acharya.collegeeventmanagement.entity.Event;
+import com.acharya.collegeeventmanagement.dto.AttendanceReport;
+import com.acharya.collegeeventmanagement.dto.EventPopularityReport;
+import com.acharya.collegeeventmanagement.dto.OverallStatistics;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
 import com.acharya.collegeeventmanagement.repository.AttendanceRepository;
 import com.acharya.collegeeventmanagement.repository.EventRepository;
-import com.acharya.collegeeventmanagement.repository.FeedbackRepository;
+import com.acharya.collegeeventmanagement.repository.EventStatisticsRepository;
 import com.acharya.collegeeventmanagement.repository.RegistrationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 
 @Service
+@Transactional(readOnly = true)
 public class ReportService {
     
     @Autowired
     private EventRepository eventRepository;
     
+    @Autowired
+    private EventStatisticsRepository eventStatisticsRepository;
+    
     @Autowired
     private RegistrationRepository registrationRepository;
     
@@ -26,96 +33,47 @@ public class ReportService {
     private AttendanceRepository attendanceRepository;
     
     @Autowired
-    private FeedbackRepository feedbackRepository;
+    private EventStatisticsService eventStatisticsService;
     
-    public List<Map<String, Object>> getEventPopularityReport() {
-        List<Event> events = eventRepository.findAll();
-        List<Map<String, Object>> report = new ArrayList<>();
-        
-        for (Event event : events) {
-            Map<String, Object> eventData = new HashMap<>();
-            eventData.put("eventId", event.getId());
-            eventData.put("eventName", event.getName());
-            eventData.put("eventDate", event.getEventDate());
-            eventData.put("maxCapacity", event.getMaxCapacity());
-            eventData.put("currentRegistrations", event.getCurrentRegistrations());
-            eventData.put("registrationCount", registrationRepository.countConfirmedRegistrationsByEventId(event.getId()));
-            eventData.put("attendanceCount", attendanceRepository.countPresentAttendancesByEventId(event.getId()));
-            eventData.put("averageRating", feedbackRepository.findAverageRatingByEventId(event.getId()));
-            eventData.put("feedbackCount", feedbackRepository.countFeedbacksByEventId(event.getId()));
-            
-            // Calculate popularity score (registrations + attendance + average rating)
-            Long registrationCount = registrationRepository.countConfirmedRegistrationsByEventId(event.getId());
-            Long attendanceCount = attendanceRepository.countPresentAttendancesByEventId(event.getId());
-            Double averageRating = feedbackRepository.findAverageRatingByEventId(event.getId());
-            if (averageRating == null) averageRating = 0.0;
-            
-            double popularityScore = registrationCount + attendanceCount + averageRating;
-            eventData.put("popularityScore", popularityScore);
-            
-            report.add(eventData);
-        }
+    public List<EventPopularityReport> getEventPopularityReport() {
+        List<EventPopularityReport> report = new ArrayList<>(eventRepository.findEventPopularityReport());
         
         // Sort by popularity score (descending)
-        report.sort((a, b) -> Double.compare((Double) b.get("popularityScore"), (Double) a.get("popularityScore")));
+        report.sort(Comparator.comparing(EventPopularityReport::popularityScore).reversed());
         
         return report;
     }
     
-    public Map<String, Object> getAttendanceReportByEventId(Long eventId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
-        
-        Long totalRegistrations = registrationRepository.countConfirmedRegistrationsByEventId(eventId);
-        Long presentAttendances = attendanceRepository.countPresentAttendancesByEventId(eventId);
-        Long absentCount = totalRegistrations - presentAttendances;
-        
-        double attendancePercentage = totalRegistrations > 0 ? 
-            (double) presentAttendances / totalRegistrations * 100 : 0.0;
-        
-        Map<String, Object> report = new HashMap<>();
-        report.put("eventId", event.getId());
-        report.put("eventName", event.getName());
-        report.put("eventDate", event.getEventDate());
-        report.put("totalRegistrations", totalRegistrations);
-        report.put("presentAttendances", presentAttendances);
-        report.put("absentCount", absentCount);
-        report.put("attendancePercentage", Math.round(attendancePercentage * 100.0) / 100.0);
-        
-        return report;
+    public AttendanceReport getAttendanceReportByEventId(Long eventId) {
+        return eventRepository.findAttendanceReportByEventId(eventId)
+                .orElseThrow(() -> new BadRequestException("Event not found with id: " + eventId));
     }
     
-    public List<Map<String, Object>> getAllEventsAttendanceReport() {
-        List<Event> events = eventRepository.findAll();
-        List<Map<String, Object>> report = new ArrayList<>();
-        
-        for (Event event : events) {
-            Map<String, Object> eventReport = getAttendanceReportByEventId(event.getId());
-            report.add(eventReport);
-        }
+    public List<AttendanceReport> getAllEventsAttendanceReport() {
+        List<AttendanceReport> report = new ArrayList<>(eventRepository.findAttendanceReports());
         
         // Sort by attendance percentage (descending)
-        report.sort((a, b) -> Double.compare((Double) b.get("attendancePercentage"), (Double) a.get("attendancePercentage")));
+        report.sort(Comparator.comparing(AttendanceReport::attendancePercentage).reversed());
         
         return report;
     }
     
-    public Map<String, Object> getOverallStatistics() {
+    public OverallStatistics getOverallStatistics() {
         long totalEvents = eventRepository.count();
+        // Row counts, as before the statistics table: cancelled registrations and absences are included
         long totalRegistrations = registrationRepository.count();
         long totalAttendances = attendanceRepository.count();
-        long totalFeedbacks = feedbackRepository.count();
+        long totalFeedbacks = eventStatisticsRepository.sumFeedbackCount();
         
         double averageAttendanceRate = totalRegistrations > 0 ? 
             (double) totalAttendances / totalRegistrations * 100 : 0.0;
         
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalEvents", totalEvents);
-        stats.put("totalRegistrations", totalRegistrations);
-        stats.put("totalAttendances", totalAttendances);
-        stats.put("totalFeedbacks", totalFeedbacks);
-        stats.put("averageAttendanceRate", Math.round(averageAttendanceRate * 100.0) / 100.0);
-        
-        return stats;
+        return new OverallStatistics(totalEvents, totalRegistrations, totalAttendances, totalFeedbacks,
+                Math.round(averageAttendanceRate * 100.0) / 100.0);
+    }
+    
+    @Transactional
+    public int rebuildEventStatistics() {
+        return eventStatisticsService.rebuildAll();
     }
 }
@@ -0,0 +1,124 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.entity.Event;
+import com.acharya.collegeeventmanagement.entity.Student;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+// SQLite FTS5 indexes for event and student search. Rows use the entity id as rowid and are written in the
+// same transaction as the entity, so the index never drifts from the tables.
+@Service
+@Transactional
+public class SearchIndexService implements CommandLineRunner {
+    
+    private static final int MAX_RESULTS = 50;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void run(String... args) {
+        rebuild();
+    }
+    
+    public void rebuild() {
+        // The FTS tables themselves are created by the V1 migration
+        jdbcTemplate.execute("DELETE FROM events_fts");
+        jdbcTemplate.execute("INSERT INTO events_fts (rowid, name, description, event_type) " +
+                "SELECT id, name, description, event_type FROM events");
+        
+        jdbcTemplate.execute("DELETE FROM students_fts");
+        jdbcTemplate.execute("INSERT INTO students_fts (rowid, student_id, first_name, last_name, email) " +
+                "SELECT id, student_id, first_name, last_name, email FROM students");
+    }
+    
+    public void indexEvent(Event event) {
+        removeEvent(event.getId());
+        jdbcTemplate.update("INSERT INTO events_fts (rowid, name, description, event_type) VALUES (?, ?, ?, ?)",
+                event.getId(), event.getName(), event.getDescription(), event.getEventType());
+    }
+    
+    public void removeEvent(Long eventId) {
+        jdbcTemplate.update("DELETE FROM events_fts WHERE rowid = ?", eventId);
+    }
+    
+    public void indexStudent(Student student) {
+        removeStudent(student.getId());
+        jdbcTemplate.update("INSERT INTO students_fts (rowid, student_id, first_name, last_name, email) VALUES (?, ?, ?, ?, ?)",
+                student.getId(), student.getStudentId(), student.getFirstName(), student.getLastName(), student.getEmail());
+    }
+    
+    // StudentImportService inserts with plain JDBC; index every student it added in one statement
+    public void indexStudentsAfter(Long previousMaxId) {
+        jdbcTemplate.update("INSERT INTO students_fts (rowid, student_id, first_name, last_name, email) " +
+                "SELECT id, student_id, first_name, last_name, email FROM students WHERE id > ?", previousMaxId);
+    }
+    
+    public void removeStudent(Long studentId) {
+        jdbcTemplate.update("DELETE FROM students_fts WHERE rowid = ?", studentId);
+    }
+    
+    // Ids ordered by relevance; matches in the name weigh more than the description
+    @Transactional(readOnly = true)
+    public List<Long> searchEventIds(String searchTerm) {
+        String matchExpression = toPrefixQuery(searchTerm);
+        if (matchExpression.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                "SELECT rowid FROM events_fts WHERE events_fts MATCH ? " +
+                "ORDER BY bm25(events_fts, 10.0, 1.0, 2.0) LIMIT ?",
+                Long.class, matchExpression, MAX_RESULTS);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Long> searchStudentIds(String searchTerm) {
+        String matchExpression = toPrefixQuery(searchTerm);
+        if (matchExpression.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                "SELECT rowid FROM students_fts WHERE students_fts MATCH ? " +
+                "ORDER BY bm25(students_fts, 10.0, 5.0, 5.0, 2.0) LIMIT ?",
+                Long.class, matchExpression, MAX_RESULTS);
+    }
+    
+    // findAllById does not preserve order, so put the loaded rows back in relevance order
+    public static <T> List<T> inRankOrder(List<Long> rankedIds, List<T> rows, Function<T, Long> idExtractor) {
+        Map<Long, T> rowsById = new HashMap<>();
+        for (T row : rows) {
+            rowsById.put(idExtractor.apply(row), row);
+        }
+        List<T> ordered = new ArrayList<>(rows.size());
+        for (Long id : rankedIds) {
+            T row = rowsById.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+    
+    // "tech sym" -> "tech"* "sym"*  (every term must match, each as a prefix)
+    private String toPrefixQuery(String searchTerm) {
+        List<String> terms = new ArrayList<>();
+        if (searchTerm != null) {
+            for (String token : searchTerm.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (!token.isEmpty()) {
+                    terms.add("\"" + token + "\"*");
+                }
+            }
+        }
+        return String.join(" ", terms);
+    }
+}
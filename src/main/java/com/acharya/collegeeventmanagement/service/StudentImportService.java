@@ -0,0 +1,367 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.dto.CollegeResponse;
+import com.acharya.collegeeventmanagement.dto.StudentImportResult;
+import com.acharya.collegeeventmanagement.entity.Student;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
+import com.acharya.collegeeventmanagement.repository.CollegeRepository;
+import com.acharya.collegeeventmanagement.repository.StudentRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// Bulk student import from CSV. The file is parsed as it is read. Rows are checked against in-memory sets of
+// existing roll numbers and emails and a map of colleges, then inserted with JDBC batches, batch-size rows per
+// transaction. A bad row is reported and skipped; it never stops the rest of the file.
+@Service
+public class StudentImportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StudentImportService.class);
+    
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "studentid", "firstname", "lastname", "email", "phonenumber", "department", "yearofstudy");
+    
+    private static final String INSERT_STUDENT = "INSERT INTO students " +
+            "(college_id, department, email, first_name, last_name, phone_number, student_id, year_of_study) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private CollegeRepository collegeRepository;
+    
+    @Autowired
+    private SearchIndexService searchIndexService;
+    
+    @Autowired
+    private StudentRollIndex studentRollIndex;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Value("${student.import.batch-size:1000}")
+    private int batchSize;
+    
+    @Value("${student.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+    
+    public StudentImportResult importStudents(InputStream csv) throws IOException {
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new BadRequestException("The CSV file is empty");
+        }
+        Map<String, Integer> columns = columnIndexes(header);
+        
+        Import run = new Import();
+        for (Object[] row : studentRepository.findAllStudentIdsAndEmails()) {
+            run.studentIds.add((String) row[0]);
+            run.emails.add((String) row[1]);
+        }
+        for (CollegeResponse college : collegeRepository.findAllResponses()) {
+            run.collegeIds.add(college.id());
+            run.collegeIdsByName.put(college.name().toLowerCase(Locale.ROOT), college.id());
+        }
+        
+        List<PendingStudent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            List<String> fields;
+            try {
+                fields = reader.next();
+            } catch (MalformedCsvException e) {
+                // Nothing after an unterminated quote can be trusted, so stop here; earlier batches stay saved
+                run.reject(reader.recordLine(), null, e.getMessage());
+                break;
+            }
+            if (fields == null) {
+                break;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            
+            run.rows++;
+            PendingStudent pending = parse(reader.recordLine(), fields, columns, run);
+            if (pending != null) {
+                batch.add(pending);
+                if (batch.size() >= batchSize) {
+                    save(batch, run);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            save(batch, run);
+        }
+        
+        logger.info("Student import: {} rows, {} imported, {} rejected", run.rows, run.imported, run.rejected);
+        return new StudentImportResult(run.rows, run.imported, run.rejected, run.errors);
+    }
+    
+    // Header names are matched case-insensitively; colleges are given by collegeId or collegeName
+    private static Map<String, Integer> columnIndexes(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        
+        Set<String> missing = new TreeSet<>();
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                missing.add(column);
+            }
+        }
+        if (!columns.containsKey("collegeid") && !columns.containsKey("collegename")) {
+            missing.add("collegeid or collegename");
+        }
+        if (!missing.isEmpty()) {
+            throw new BadRequestException("Missing CSV column(s): " + String.join(", ", missing));
+        }
+        return columns;
+    }
+    
+    // Returns null (after recording why) when the row cannot be imported
+    private PendingStudent parse(long line, List<String> fields, Map<String, Integer> columns, Import run) {
+        Student student = new Student();
+        student.setStudentId(field(fields, columns, "studentid"));
+        student.setFirstName(field(fields, columns, "firstname"));
+        student.setLastName(field(fields, columns, "lastname"));
+        student.setEmail(field(fields, columns, "email"));
+        student.setPhoneNumber(field(fields, columns, "phonenumber"));
+        student.setDepartment(field(fields, columns, "department"));
+        student.setYearOfStudy(field(fields, columns, "yearofstudy"));
+        
+        // Same rules as POST /api/students
+        Set<String> problems = new LinkedHashSet<>();
+        for (ConstraintViolation<Student> violation : validator.validate(student)) {
+            problems.add(violation.getMessage());
+        }
+        if (!problems.isEmpty()) {
+            run.reject(line, student.getStudentId(), String.join("; ", problems));
+            return null;
+        }
+        
+        Long collegeId = resolveCollege(fields, columns, run);
+        if (collegeId == null) {
+            String collegeIdField = field(fields, columns, "collegeid");
+            run.reject(line, student.getStudentId(), collegeIdField != null
+                    ? "College not found with id: " + collegeIdField
+                    : "College not found with name: " + field(fields, columns, "collegename"));
+            return null;
+        }
+        
+        // Checked last so a rejected row does not claim its roll number or email
+        if (run.studentIds.contains(student.getStudentId())) {
+            run.reject(line, student.getStudentId(), "Student with ID '" + student.getStudentId() + "' already exists");
+            return null;
+        }
+        if (run.emails.contains(student.getEmail())) {
+            run.reject(line, student.getStudentId(), "Student with email '" + student.getEmail() + "' already exists");
+            return null;
+        }
+        run.studentIds.add(student.getStudentId());
+        run.emails.add(student.getEmail());
+        return new PendingStudent(line, student, collegeId);
+    }
+    
+    private static Long resolveCollege(List<String> fields, Map<String, Integer> columns, Import run) {
+        String collegeId = field(fields, columns, "collegeid");
+        if (collegeId != null) {
+            try {
+                Long id = Long.valueOf(collegeId);
+                return run.collegeIds.contains(id) ? id : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        String collegeName = field(fields, columns, "collegename");
+        return collegeName == null ? null : run.collegeIdsByName.get(collegeName.toLowerCase(Locale.ROOT));
+    }
+    
+    // Trimmed value, or null when the column is absent, blank or missing from a short row
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+    
+    private void save(List<PendingStudent> batch, Import run) {
+        List<Object[]> inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> insert(batch));
+        } catch (DataAccessException e) {
+            // Usually a student added through the API since the import started; find the row by saving one at a time
+            if (batch.size() == 1) {
+                PendingStudent pending = batch.get(0);
+                run.reject(pending.line(), pending.student().getStudentId(),
+                        "Could not save: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                return;
+            }
+            for (PendingStudent pending : batch) {
+                save(List.of(pending), run);
+            }
+            return;
+        }
+        
+        for (Object[] row : inserted) {
+            studentRollIndex.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        run.imported += inserted.size();
+    }
+    
+    // Runs on the single writer connection, so nobody else inserts between reading MAX(id) and the batch; every
+    // row above that id is one of ours
+    private List<Object[]> insert(List<PendingStudent> batch) {
+        Long previousMaxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM students", Long.class);
+        jdbcTemplate.batchUpdate(INSERT_STUDENT, batch, batch.size(), (statement, pending) -> {
+            Student student = pending.student();
+            statement.setLong(1, pending.collegeId());
+            statement.setString(2, student.getDepartment());
+            statement.setString(3, student.getEmail());
+            statement.setString(4, student.getFirstName());
+            statement.setString(5, student.getLastName());
+            statement.setString(6, student.getPhoneNumber());
+            statement.setString(7, student.getStudentId());
+            statement.setString(8, student.getYearOfStudy());
+        });
+        searchIndexService.indexStudentsAfter(previousMaxId);
+        return jdbcTemplate.query("SELECT student_id, id FROM students WHERE id > ?",
+                (resultSet, rowNum) -> new Object[]{resultSet.getString(1), resultSet.getLong(2)}, previousMaxId);
+    }
+    
+    private record PendingStudent(long line, Student student, Long collegeId) {
+    }
+    
+    // Running totals and lookup sets for one import
+    private final class Import {
+        
+        private final Set<String> studentIds = new HashSet<>();
+        
+        private final Set<String> emails = new HashSet<>();
+        
+        private final Set<Long> collegeIds = new HashSet<>();
+        
+        private final Map<String, Long> collegeIdsByName = new HashMap<>();
+        
+        private final List<StudentImportResult.RowError> errors = new ArrayList<>();
+        
+        private int rows;
+        
+        private int imported;
+        
+        private int rejected;
+        
+        // Every rejection is counted, but only the first max-reported-errors are described
+        void reject(long line, String studentId, String error) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new StudentImportResult.RowError(line, studentId, error));
+            }
+        }
+    }
+    
+    private static final class MalformedCsvException extends RuntimeException {
+        
+        MalformedCsvException(String message) {
+            super(message);
+        }
+    }
+    
+    // RFC 4180 records: quoted fields may hold commas, doubled quotes and line breaks
+    private static final class CsvReader {
+        
+        private final Reader reader;
+        
+        private long line = 1;
+        
+        private long recordLine;
+        
+        CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+        
+        long recordLine() {
+            return recordLine;
+        }
+        
+        // Next record's fields, or null at the end of the file
+        List<String> next() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new MalformedCsvException("Unterminated quoted field starting on line " + recordLine);
+                    }
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c != '"') {
+                            // Closing quote; look at the character after it as an unquoted one
+                            quoted = false;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Roll number (Student.studentId) -> student primary key, so kiosk check-ins never query the students table.
+// StudentService keeps it in step with every add, update and delete.
+@Component
+public class StudentRollIndex implements CommandLineRunner {
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    private final Map<String, Long> idsByRollNumber = new ConcurrentHashMap<>();
+    
+    @Override
+    public void run(String... args) {
+        reload();
+    }
+    
+    public void reload() {
+        Map<String, Long> loaded = new ConcurrentHashMap<>();
+        for (Object[] row : studentRepository.findAllRollNumbers()) {
+            loaded.put((String) row[0], (Long) row[1]);
+        }
+        idsByRollNumber.clear();
+        idsByRollNumber.putAll(loaded);
+    }
+    
+    public Long findStudentId(String rollNumber) {
+        return idsByRollNumber.get(rollNumber);
+    }
+    
+    public void put(String rollNumber, Long studentId) {
+        idsByRollNumber.put(rollNumber, studentId);
+    }
+    
+    public void remove(String rollNumber) {
+        idsByRollNumber.remove(rollNumber);
+    }
+}
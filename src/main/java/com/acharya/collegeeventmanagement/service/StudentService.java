@@ -1,10 +1,16 @@
 package com.acharya.collegeeventmanagement.service;
 
+import com.acharya.collegeeventmanagement.config.CacheConfig;
+import com.acharya.collegeeventmanagement.dto.CursorPage;
+import com.acharya.collegeeventmanagement.dto.KeysetPageRequest;
+import com.acharya.collegeeventmanagement.dto.StudentResponse;
 import com.acharya.collegeeventmanagement.entity.College;
 import com.acharya.collegeeventmanagement.entity.Student;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
 import com.acharya.collegeeventmanagement.repository.CollegeRepository;
 import com.acharya.collegeeventmanagement.repository.StudentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,61 +27,90 @@ public class StudentService {
     @Autowired
     private CollegeRepository collegeRepository;
     
-    public Student addStudent(Student student) {
+    @Autowired
+    private EventStatisticsService eventStatisticsService;
+    
+    @Autowired
+    private SearchIndexService searchIndexService;
+    
+    @Autowired
+    private StudentRollIndex studentRollIndex;
+    
+    @Autowired
+    private LookupService lookupService;
+    
+    public StudentResponse addStudent(Student student) {
         if (studentRepository.existsByStudentId(student.getStudentId())) {
-            throw new RuntimeException("Student with ID '" + student.getStudentId() + "' already exists");
+            throw new BadRequestException("Student with ID '" + student.getStudentId() + "' already exists");
         }
         
         if (studentRepository.existsByEmail(student.getEmail())) {
-            throw new RuntimeException("Student with email '" + student.getEmail() + "' already exists");
+            throw new BadRequestException("Student with email '" + student.getEmail() + "' already exists");
         }
         
         // Verify college exists
         College college = collegeRepository.findById(student.getCollege().getId())
-                .orElseThrow(() -> new RuntimeException("College not found with id: " + student.getCollege().getId()));
+                .orElseThrow(() -> new BadRequestException("College not found with id: " + student.getCollege().getId()));
         
         student.setCollege(college);
-        return studentRepository.save(student);
+        Student savedStudent = studentRepository.save(student);
+        searchIndexService.indexStudent(savedStudent);
+        studentRollIndex.put(savedStudent.getStudentId(), savedStudent.getId());
+        return StudentResponse.from(savedStudent);
     }
     
-    public List<Student> getAllStudents() {
-        return studentRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<StudentResponse> getStudentsPage(KeysetPageRequest pageRequest) {
+        List<StudentResponse> students = pageRequest.isDescending()
+                ? studentRepository.findResponsesByIdLessThan(pageRequest.getAnchorId(), pageRequest.toPageable())
+                : studentRepository.findResponsesByIdGreaterThan(pageRequest.getAnchorId(), pageRequest.toPageable());
+        return pageRequest.toPage(students, StudentResponse::id);
     }
     
-    public Optional<Student> getStudentById(Long id) {
-        return studentRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<StudentResponse> getStudentById(Long id) {
+        return lookupService.findStudent(id);
     }
     
-    public Optional<Student> getStudentByStudentId(String studentId) {
-        return studentRepository.findByStudentId(studentId);
+    @Transactional(readOnly = true)
+    public Optional<StudentResponse> getStudentByStudentId(String studentId) {
+        return studentRepository.findResponseByStudentId(studentId);
     }
     
-    public List<Student> getStudentsByCollegeId(Long collegeId) {
-        return studentRepository.findByCollegeId(collegeId);
+    @Transactional(readOnly = true)
+    public List<StudentResponse> getStudentsByCollegeId(Long collegeId) {
+        return studentRepository.findResponsesByCollegeId(collegeId);
     }
     
-    public List<Student> searchStudents(String searchTerm) {
-        return studentRepository.findByStudentIdOrNameContaining(searchTerm, searchTerm);
+    @Transactional(readOnly = true)
+    public List<StudentResponse> searchStudents(String searchTerm) {
+        List<Long> rankedIds = searchIndexService.searchStudentIds(searchTerm);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        return SearchIndexService.inRankOrder(rankedIds, studentRepository.findResponsesByIdIn(rankedIds), StudentResponse::id);
     }
     
-    public Student updateStudent(Long id, Student studentDetails) {
+    @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id")
+    public StudentResponse updateStudent(Long id, Student studentDetails) {
         Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
+                .orElseThrow(() -> new BadRequestException("Student not found with id: " + id));
         
         if (!student.getStudentId().equals(studentDetails.getStudentId()) && 
             studentRepository.existsByStudentId(studentDetails.getStudentId())) {
-            throw new RuntimeException("Student with ID '" + studentDetails.getStudentId() + "' already exists");
+            throw new BadRequestException("Student with ID '" + studentDetails.getStudentId() + "' already exists");
         }
         
         if (!student.getEmail().equals(studentDetails.getEmail()) && 
             studentRepository.existsByEmail(studentDetails.getEmail())) {
-            throw new RuntimeException("Student with email '" + studentDetails.getEmail() + "' already exists");
+            throw new BadRequestException("Student with email '" + studentDetails.getEmail() + "' already exists");
         }
         
         // Verify college exists
         College college = collegeRepository.findById(studentDetails.getCollege().getId())
-                .orElseThrow(() -> new RuntimeException("College not found with id: " + studentDetails.getCollege().getId()));
+                .orElseThrow(() -> new BadRequestException("College not found with id: " + studentDetails.getCollege().getId()));
         
+        String previousRollNumber = student.getStudentId();
         student.setStudentId(studentDetails.getStudentId());
         student.setFirstName(studentDetails.getFirstName());
         student.setLastName(studentDetails.getLastName());
@@ -85,12 +120,24 @@ public class StudentService {
         student.setYearOfStudy(studentDetails.getYearOfStudy());
         student.setCollege(college);
         
-        return studentRepository.save(student);
+        Student updatedStudent = studentRepository.save(student);
+        searchIndexService.indexStudent(updatedStudent);
+        studentRollIndex.remove(previousRollNumber);
+        studentRollIndex.put(updatedStudent.getStudentId(), updatedStudent.getId());
+        return StudentResponse.from(updatedStudent);
     }
     
+    @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id")
     public void deleteStudent(Long id) {
         Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
+                .orElseThrow(() -> new BadRequestException("Student not found with id: " + id));
+        
+        // Registrations, attendance and feedback cascade with the student, so their events need recounting
+        List<Long> affectedEventIds = eventStatisticsService.getEventIdsByStudentId(id);
         studentRepository.delete(student);
+        studentRepository.flush();
+        eventStatisticsService.rebuildEvents(affectedEventIds);
+        searchIndexService.removeStudent(id);
+        studentRollIndex.remove(student.getStudentId());
     }
 }
@@ -0,0 +1,93 @@
+package com.acharya.collegeeventmanagement.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Retention for the change feed's tombstones (V3__tombstone_retention.sql). Every compaction-interval-minutes it
+// drops the tombstones older than tombstone-retention-days, oldest first and compaction-batch-size per pipeline
+// write, so a large backlog never holds the writer for long. ChangeFeedService tells a client whose cursor is
+// older than the dropped tombstones to resync.
+@Service
+public class TombstoneCompactionService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TombstoneCompactionService.class);
+    
+    // Everything up to the newest expired tombstone, so the dropped ones are always a prefix in change_seq order
+    // and pruned_through splits dropped from kept even if the clock was stepped back
+    private static final String CHUNK_END =
+            "SELECT MAX(change_seq) FROM (SELECT change_seq FROM tombstones " +
+            "WHERE change_seq <= (SELECT MAX(change_seq) FROM tombstones WHERE deleted_at < ?) " +
+            "ORDER BY change_seq LIMIT ?)";
+    
+    @Autowired
+    private WritePipeline writePipeline;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${change-feed.tombstone-retention-days:30}")
+    private long retentionDays;
+    
+    @Value("${change-feed.compaction-interval-minutes:60}")
+    private long intervalMinutes;
+    
+    @Value("${change-feed.compaction-batch-size:1000}")
+    private int batchSize;
+    
+    private ScheduledExecutorService scheduler;
+    
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("tombstone-compaction").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::scheduledCompaction, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+    
+    // Returns how many tombstones were dropped
+    public int compact() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionDays);
+        int dropped = 0;
+        int chunk;
+        do {
+            chunk = writePipeline.execute(() -> dropChunk(cutoff));
+            dropped += chunk;
+        } while (chunk >= batchSize);
+        return dropped;
+    }
+    
+    private void scheduledCompaction() {
+        try {
+            int dropped = compact();
+            if (dropped > 0) {
+                logger.info("Dropped {} change-feed tombstones older than {} days", dropped, retentionDays);
+            }
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the next run picks up where this one stopped
+            logger.warn("Tombstone compaction failed", e);
+        }
+    }
+    
+    private int dropChunk(long cutoff) {
+        Long chunkEnd = jdbcTemplate.queryForObject(CHUNK_END, Long.class, cutoff, batchSize);
+        if (chunkEnd == null) {
+            return 0;
+        }
+        int dropped = jdbcTemplate.update("DELETE FROM tombstones WHERE change_seq <= ?", chunkEnd);
+        jdbcTemplate.update("UPDATE change_sequence SET pruned_through = MAX(pruned_through, ?) WHERE id = 1", chunkEnd);
+        return dropped;
+    }
+}
@@ -0,0 +1,253 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.exception.TooManyRequestsException;
+import com.acharya.collegeeventmanagement.exception.WriteNotConfirmedException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Group commit for small writes. Callers hand over a write and wait; one thread collects whatever arrives within
+// a few milliseconds (up to max-batch-size writes) and runs it all in a single transaction, so SQLite syncs once
+// per batch instead of once per write. Each write runs inside its own savepoint with a fresh persistence
+// context, so one write failing only rolls back that write, and each caller gets its own result or exception.
+@Component
+public class WritePipeline {
+    
+    private static final Logger logger = LoggerFactory.getLogger(WritePipeline.class);
+    
+    private static final String SAVEPOINT = "pipeline_write";
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${write-pipeline.max-batch-size:200}")
+    private int maxBatchSize;
+    
+    @Value("${write-pipeline.max-delay-ms:5}")
+    private long maxDelayMs;
+    
+    @Value("${write-pipeline.queue-capacity:10000}")
+    private int queueCapacity;
+    
+    @Value("${write-pipeline.wait-timeout-ms:10000}")
+    private long waitTimeoutMs;
+    
+    private BlockingQueue<PendingWrite<?>> queue;
+    
+    private Thread writer;
+    
+    private volatile boolean running;
+    
+    private Timer commitTimer;
+    
+    private DistributionSummary batchSizes;
+    
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        
+        commitTimer = Timer.builder("write.pipeline.commit")
+                .description("Time to run and commit one batch of writes")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("write.pipeline.batch.size")
+                .description("Writes committed together in one transaction")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gaugeCollectionSize("write.pipeline.queue.size", List.of(), queue);
+        
+        running = true;
+        writer = new Thread(this::drainLoop, "write-pipeline");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(waitTimeoutMs);
+    }
+    
+    public <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        return enqueue(new PendingWrite<>(operation, new CompletableFuture<>(), true));
+    }
+    
+    // For a write that already gathers many callers' changes: it commits with whatever is queued right now
+    // instead of lingering for company
+    public <T> CompletableFuture<T> submitBatch(Supplier<T> operation) {
+        return enqueue(new PendingWrite<>(operation, new CompletableFuture<>(), false));
+    }
+    
+    private <T> CompletableFuture<T> enqueue(PendingWrite<T> write) {
+        if (!queue.offer(write)) {
+            throw new TooManyRequestsException("Too many pending writes, please retry shortly");
+        }
+        return write.result();
+    }
+    
+    // Runs the write through the pipeline and waits for its outcome. A caller that already holds a write
+    // transaction runs the write inline instead: the pipeline would need the same single writer connection.
+    // Service entry points that delegate here are therefore @Transactional(propagation = SUPPORTS).
+    public <T> T execute(Supplier<T> operation) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return operation.get();
+        }
+        
+        try {
+            return submit(operation).get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new WriteNotConfirmedException("The change is still being saved, please check before retrying");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the change to be saved");
+        }
+    }
+    
+    public void run(Runnable operation) {
+        execute(() -> {
+            operation.run();
+            return null;
+        });
+    }
+    
+    private void drainLoop() {
+        List<PendingWrite<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                
+                // Linger briefly so writes arriving right behind the first one share its commit
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(first.linger() ? maxDelayMs : 0);
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingWrite<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (PendingWrite<?> write : batch) {
+                    write.result().completeExceptionally(new RuntimeException("Write pipeline stopped before saving the change"));
+                }
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void commit(List<PendingWrite<?>> batch) {
+        batchSizes.record(batch.size());
+        
+        List<Runnable> completions;
+        long start = System.nanoTime();
+        try {
+            completions = transactionTemplate.execute(status -> runBatch(batch, status));
+        } catch (RuntimeException e) {
+            // The batch transaction itself failed (commit error, or a write left it rollback-only), so nothing
+            // was saved; give every write its own transaction so only the faulty one fails
+            logger.warn("Batch of {} writes failed, retrying them one by one", batch.size(), e);
+            for (PendingWrite<?> write : batch) {
+                runAlone(write);
+            }
+            return;
+        } finally {
+            commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        
+        // Callers only hear back once the whole batch is durable
+        for (Runnable completion : completions) {
+            completion.run();
+        }
+    }
+    
+    private List<Runnable> runBatch(List<PendingWrite<?>> batch, TransactionStatus status) {
+        List<Runnable> completions = new ArrayList<>(batch.size());
+        for (PendingWrite<?> write : batch) {
+            completions.add(runInSavepoint(write));
+            if (status.isRollbackOnly()) {
+                throw new IllegalStateException("Write left the batch transaction rollback-only");
+            }
+        }
+        return completions;
+    }
+    
+    // HibernateJpaDialect has no savepoint support, so the savepoints are plain SQL on the transaction's connection
+    private <T> Runnable runInSavepoint(PendingWrite<T> write) {
+        jdbcTemplate.execute("SAVEPOINT " + SAVEPOINT);
+        try {
+            T value = write.operation().get();
+            entityManager.flush();
+            jdbcTemplate.execute("RELEASE " + SAVEPOINT);
+            return () -> write.result().complete(value);
+        } catch (RuntimeException e) {
+            jdbcTemplate.execute("ROLLBACK TO " + SAVEPOINT);
+            jdbcTemplate.execute("RELEASE " + SAVEPOINT);
+            return () -> write.result().completeExceptionally(e);
+        } finally {
+            // The next write must not see entities (or stale seat counts) loaded by this one
+            entityManager.clear();
+        }
+    }
+    
+    private <T> void runAlone(PendingWrite<T> write) {
+        try {
+            write.result().complete(transactionTemplate.execute(status -> write.operation().get()));
+        } catch (RuntimeException e) {
+            write.result().completeExceptionally(e);
+        }
+    }
+    
+    private record PendingWrite<T>(Supplier<T> operation, CompletableFuture<T> result, boolean linger) {
+    }
+}
@@ -0,0 +1,141 @@
+-- Tables as Hibernate would generate them for the entities,
+-- plus the constraints and indexes the repository queries rely on.
+
+CREATE TABLE colleges (
+    id integer,
+    address varchar(255) not null,
+    city varchar(255) not null,
+    country varchar(255) not null,
+    name varchar(255) not null,
+    state varchar(255) not null,
+    primary key (id)
+);
+
+CREATE UNIQUE INDEX idx_colleges_name ON colleges (name);
+
+CREATE TABLE events (
+    current_registrations integer not null,
+    is_active boolean not null,
+    max_capacity integer not null,
+    college_id bigint not null,
+    event_date timestamp not null,
+    id integer,
+    description TEXT not null,
+    event_type varchar(255) not null,
+    location varchar(255) not null,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+CREATE INDEX idx_events_college ON events (college_id);
+CREATE INDEX idx_events_date ON events (event_date);
+CREATE INDEX idx_events_type ON events (event_type);
+
+CREATE TABLE students (
+    college_id bigint not null,
+    id integer,
+    department varchar(255) not null,
+    email varchar(255) not null,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    phone_number varchar(255) not null,
+    student_id varchar(255) not null,
+    year_of_study varchar(255) not null,
+    primary key (id)
+);
+
+CREATE UNIQUE INDEX idx_students_student_id ON students (student_id);
+CREATE UNIQUE INDEX idx_students_email ON students (email);
+CREATE INDEX idx_students_college ON students (college_id);
+
+-- One registration, attendance and feedback row per student and event. The unique (student_id, event_id)
+-- indexes also serve the per-student lookups; the event-first indexes serve the per-event lists and
+-- counts and carry the remaining selected column so those queries never touch the table.
+CREATE TABLE registrations (
+    is_confirmed boolean not null,
+    event_id bigint not null,
+    id bigint not null,
+    registration_date timestamp not null,
+    student_id bigint not null,
+    primary key (id)
+);
+
+CREATE UNIQUE INDEX idx_registrations_student_event ON registrations (student_id, event_id);
+CREATE INDEX idx_registrations_event_confirmed ON registrations (event_id, is_confirmed, student_id);
+
+CREATE TABLE attendances (
+    is_present boolean not null,
+    attendance_time timestamp not null,
+    event_id bigint not null,
+    id integer,
+    student_id bigint not null,
+    primary key (id)
+);
+
+CREATE UNIQUE INDEX idx_attendances_student_event ON attendances (student_id, event_id);
+CREATE INDEX idx_attendances_event_present ON attendances (event_id, is_present, student_id);
+
+CREATE TABLE feedbacks (
+    rating integer not null,
+    event_id bigint not null,
+    feedback_date timestamp not null,
+    id integer,
+    student_id bigint not null,
+    comment TEXT not null,
+    primary key (id)
+);
+
+CREATE UNIQUE INDEX idx_feedbacks_student_event ON feedbacks (student_id, event_id);
+CREATE INDEX idx_feedbacks_event_date ON feedbacks (event_id, feedback_date);
+
+CREATE TABLE waitlist_entries (
+    event_id bigint not null,
+    id integer,
+    joined_at timestamp not null,
+    queue_number bigint not null,
+    student_id bigint not null,
+    primary key (id)
+);
+
+CREATE UNIQUE INDEX idx_waitlist_event_queue ON waitlist_entries (event_id, queue_number);
+CREATE UNIQUE INDEX idx_waitlist_student_event ON waitlist_entries (student_id, event_id);
+
+CREATE TABLE event_statistics (
+    event_id bigint not null,
+    feedback_count bigint not null,
+    five_star_count bigint not null,
+    four_star_count bigint not null,
+    one_star_count bigint not null,
+    present_count bigint not null,
+    rating_sum bigint not null,
+    registration_count bigint not null,
+    three_star_count bigint not null,
+    two_star_count bigint not null,
+    primary key (event_id)
+);
+
+CREATE TABLE users (
+    is_active boolean not null,
+    id bigint not null,
+    email varchar(255) not null,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    password varchar(255) not null,
+    role varchar(255) not null check (role in ('ADMIN','USER')),
+    username varchar(255) not null,
+    primary key (id)
+);
+
+CREATE UNIQUE INDEX idx_users_username ON users (username);
+CREATE UNIQUE INDEX idx_users_email ON users (email);
+
+-- Hibernate's table-backed sequence for User ids needs its starting row
+CREATE TABLE users_seq (
+    next_val bigint
+);
+
+INSERT INTO users_seq VALUES (1);
+
+-- Full-text search (SearchIndexService keeps these in step with events and students)
+CREATE VIRTUAL TABLE events_fts USING fts5(name, description, event_type);
+CREATE VIRTUAL TABLE students_fts USING fts5(student_id, first_name, last_name, email);
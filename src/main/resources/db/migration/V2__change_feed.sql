@@ -0,0 +1,143 @@
+-- Change feed for GET /api/changes. Every insert or update of an event, student, registration, attendance
+-- or feedback row stamps it with the next value of one global change sequence; every delete leaves a
+-- tombstone stamped the same way. Triggers do the stamping, so JPA saves, bulk updates and plain JDBC
+-- inserts are all covered. With a single writer connection the values are handed out in commit order,
+-- so a client that has read everything up to N never misses a change numbered above N.
+
+CREATE TABLE change_sequence (
+    id integer check (id = 1),
+    value bigint not null,
+    primary key (id)
+);
+
+INSERT INTO change_sequence VALUES (1, 0);
+
+CREATE TABLE tombstones (
+    change_seq bigint not null,
+    entity_type varchar(255) not null,
+    entity_id bigint not null,
+    primary key (change_seq)
+);
+
+ALTER TABLE events ADD COLUMN change_seq bigint not null default 0;
+CREATE INDEX idx_events_change_seq ON events (change_seq);
+
+CREATE TRIGGER events_change_insert AFTER INSERT ON events
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    UPDATE events SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) WHERE id = NEW.id;
+END;
+
+-- The WHEN clause skips the trigger's own change_seq update
+CREATE TRIGGER events_change_update AFTER UPDATE ON events WHEN NEW.change_seq = OLD.change_seq
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    UPDATE events SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) WHERE id = NEW.id;
+END;
+
+CREATE TRIGGER events_change_delete AFTER DELETE ON events
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    INSERT INTO tombstones (change_seq, entity_type, entity_id)
+        SELECT value, 'EVENT', OLD.id FROM change_sequence WHERE id = 1;
+END;
+
+ALTER TABLE students ADD COLUMN change_seq bigint not null default 0;
+CREATE INDEX idx_students_change_seq ON students (change_seq);
+
+CREATE TRIGGER students_change_insert AFTER INSERT ON students
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    UPDATE students SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) WHERE id = NEW.id;
+END;
+
+CREATE TRIGGER students_change_update AFTER UPDATE ON students WHEN NEW.change_seq = OLD.change_seq
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    UPDATE students SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) WHERE id = NEW.id;
+END;
+
+CREATE TRIGGER students_change_delete AFTER DELETE ON students
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    INSERT INTO tombstones (change_seq, entity_type, entity_id)
+        SELECT value, 'STUDENT', OLD.id FROM change_sequence WHERE id = 1;
+END;
+
+ALTER TABLE registrations ADD COLUMN change_seq bigint not null default 0;
+CREATE INDEX idx_registrations_change_seq ON registrations (change_seq);
+
+CREATE TRIGGER registrations_change_insert AFTER INSERT ON registrations
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    UPDATE registrations SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) WHERE id = NEW.id;
+END;
+
+CREATE TRIGGER registrations_change_update AFTER UPDATE ON registrations WHEN NEW.change_seq = OLD.change_seq
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    UPDATE registrations SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) WHERE id = NEW.id;
+END;
+
+CREATE TRIGGER registrations_change_delete AFTER DELETE ON registrations
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    INSERT INTO tombstones (change_seq, entity_type, entity_id)
+        SELECT value, 'REGISTRATION', OLD.id FROM change_sequence WHERE id = 1;
+END;
+
+ALTER TABLE attendances ADD COLUMN change_seq bigint not null default 0;
+CREATE INDEX idx_attendances_change_seq ON attendances (change_seq);
+
+CREATE TRIGGER attendances_change_insert AFTER INSERT ON attendances
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    UPDATE attendances SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) WHERE id = NEW.id;
+END;
+
+CREATE TRIGGER attendances_change_update AFTER UPDATE ON attendances WHEN NEW.change_seq = OLD.change_seq
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    UPDATE attendances SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) WHERE id = NEW.id;
+END;
+
+CREATE TRIGGER attendances_change_delete AFTER DELETE ON attendances
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    INSERT INTO tombstones (change_seq, entity_type, entity_id)
+        SELECT value, 'ATTENDANCE', OLD.id FROM change_sequence WHERE id = 1;
+END;
+
+ALTER TABLE feedbacks ADD COLUMN change_seq bigint not null default 0;
+CREATE INDEX idx_feedbacks_change_seq ON feedbacks (change_seq);
+
+CREATE TRIGGER feedbacks_change_insert AFTER INSERT ON feedbacks
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    UPDATE feedbacks SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) WHERE id = NEW.id;
+END;
+
+CREATE TRIGGER feedbacks_change_update AFTER UPDATE ON feedbacks WHEN NEW.change_seq = OLD.change_seq
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    UPDATE feedbacks SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) WHERE id = NEW.id;
+END;
+
+CREATE TRIGGER feedbacks_change_delete AFTER DELETE ON feedbacks
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    INSERT INTO tombstones (change_seq, entity_type, entity_id)
+        SELECT value, 'FEEDBACK', OLD.id FROM change_sequence WHERE id = 1;
+END;
+
+-- Rows that already exist are numbered by id, one table after another (gaps are fine, order is all that matters)
+UPDATE events SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) + id;
+UPDATE change_sequence SET value = value + (SELECT COALESCE(MAX(id), 0) FROM events) WHERE id = 1;
+UPDATE students SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) + id;
+UPDATE change_sequence SET value = value + (SELECT COALESCE(MAX(id), 0) FROM students) WHERE id = 1;
+UPDATE registrations SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) + id;
+UPDATE change_sequence SET value = value + (SELECT COALESCE(MAX(id), 0) FROM registrations) WHERE id = 1;
+UPDATE attendances SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) + id;
+UPDATE change_sequence SET value = value + (SELECT COALESCE(MAX(id), 0) FROM attendances) WHERE id = 1;
+UPDATE feedbacks SET change_seq = (SELECT value FROM change_sequence WHERE id = 1) + id;
+UPDATE change_sequence SET value = value + (SELECT COALESCE(MAX(id), 0) FROM feedbacks) WHERE id = 1;
@@ -0,0 +1,52 @@
+-- Tombstone retention for GET /api/changes. Every tombstone is stamped with the time of its delete (epoch
+-- millis), so TombstoneCompactionService can drop the ones older than change-feed.tombstone-retention-days.
+-- It always drops the oldest tombstones first and records the highest change_seq dropped in pruned_through;
+-- a client whose cursor is below that may have missed a delete and is told to resync.
+
+ALTER TABLE change_sequence ADD COLUMN pruned_through bigint not null default 0;
+
+ALTER TABLE tombstones ADD COLUMN deleted_at bigint not null default 0;
+CREATE INDEX idx_tombstones_deleted_at ON tombstones (deleted_at);
+
+-- When the older ones were deleted is unknown; they get the full retention period from now
+UPDATE tombstones SET deleted_at = unixepoch() * 1000;
+
+DROP TRIGGER events_change_delete;
+CREATE TRIGGER events_change_delete AFTER DELETE ON events
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    INSERT INTO tombstones (change_seq, entity_type, entity_id, deleted_at)
+        SELECT value, 'EVENT', OLD.id, unixepoch() * 1000 FROM change_sequence WHERE id = 1;
+END;
+
+DROP TRIGGER students_change_delete;
+CREATE TRIGGER students_change_delete AFTER DELETE ON students
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    INSERT INTO tombstones (change_seq, entity_type, entity_id, deleted_at)
+        SELECT value, 'STUDENT', OLD.id, unixepoch() * 1000 FROM change_sequence WHERE id = 1;
+END;
+
+DROP TRIGGER registrations_change_delete;
+CREATE TRIGGER registrations_change_delete AFTER DELETE ON registrations
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    INSERT INTO tombstones (change_seq, entity_type, entity_id, deleted_at)
+        SELECT value, 'REGISTRATION', OLD.id, unixepoch() * 1000 FROM change_sequence WHERE id = 1;
+END;
+
+DROP TRIGGER attendances_change_delete;
+CREATE TRIGGER attendances_change_delete AFTER DELETE ON attendances
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    INSERT INTO tombstones (change_seq, entity_type, entity_id, deleted_at)
+        SELECT value, 'ATTENDANCE', OLD.id, unixepoch() * 1000 FROM change_sequence WHERE id = 1;
+END;
+
+DROP TRIGGER feedbacks_change_delete;
+CREATE TRIGGER feedbacks_change_delete AFTER DELETE ON feedbacks
+BEGIN
+    UPDATE change_sequence SET value = value + 1 WHERE id = 1;
+    INSERT INTO tombstones (change_seq, entity_type, entity_id, deleted_at)
+        SELECT value, 'FEEDBACK', OLD.id, unixepoch() * 1000 FROM change_sequence WHERE id = 1;
+END;
@@ -0,0 +1,324 @@
+package com.acharya.collegeeventmanagement.repository;
+
+import com.acharya.collegeeventmanagement.entity.Attendance;
+import com.acharya.collegeeventmanagement.entity.College;
+import com.acharya.collegeeventmanagement.entity.Event;
+import com.acharya.collegeeventmanagement.entity.EventStatistics;
+import com.acharya.collegeeventmanagement.entity.Feedback;
+import com.acharya.collegeeventmanagement.entity.Registration;
+import com.acharya.collegeeventmanagement.entity.Student;
+import com.acharya.collegeeventmanagement.entity.WaitlistEntry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Calls every read query method of the repositories once against a seeded SQLite database, runs the SQL Hibernate
+// sends through EXPLAIN QUERY PLAN and fails when a table is read by a full scan. The application never runs
+// ANALYZE, so SQLite plans from the schema alone, as it does here; the seed rows are there so the placeholder ids
+// find something and the queries that follow a hit (lazy loads, second pages) are sent and checked too.
+// The embedded server is started as in the application: it registers the classpath: URL handler that
+// hibernate.javax.cache.uri relies on.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.jpa.show-sql=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+    
+    // Queries that read every row on purpose (whole-table reports and rankings, startup loads, small reference tables)
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "CollegeRepository.findAllResponses",
+            "EventRepository.findActiveResponses",
+            "EventRepository.findAvailableResponses",
+            "EventRepository.findEventPopularityReport",
+            "EventRepository.findAttendanceReports",
+            "EventRepository.streamEventPopularityReport",
+            "EventRepository.streamAttendanceReports",
+            "EventRepository.findTopEventPopularity",
+            "EventStatisticsRepository.sumFeedbackCount",
+            "StudentRepository.findAllRollNumbers",
+            "StudentRepository.findAllStudentIdsAndEmails",
+            "UserRepository.findAllAccessRows");
+    
+    // The repositories behind the per-student and per-event lookups; each must have its queries checked
+    private static final Set<Class<?>> INDEXED_REPOSITORIES = Set.of(
+            RegistrationRepository.class,
+            AttendanceRepository.class,
+            FeedbackRepository.class,
+            EventRepository.class,
+            StudentRepository.class);
+    
+    private static final int SEED_EVENTS = 5;
+    
+    private static final int SEED_STUDENTS = 20;
+    
+    @Autowired
+    private ApplicationContext applicationContext;
+    
+    @Autowired
+    private SqlCapture sqlCapture;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private CollegeRepository collegeRepository;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private RegistrationRepository registrationRepository;
+    
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+    
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+    
+    @Autowired
+    private EventStatisticsRepository eventStatisticsRepository;
+    
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        try {
+            Path directory = Files.createTempDirectory("query-plan-test");
+            registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + directory.resolve("events.db"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @BeforeAll
+    void seed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            College college = collegeRepository.save(
+                    new College("Query Plan College", "1 Main Road", "Bengaluru", "Karnataka", "India"));
+            
+            List<Event> events = new ArrayList<>();
+            for (int i = 1; i <= SEED_EVENTS; i++) {
+                Event event = new Event("Event " + i, "Seeded for the query plan test",
+                        LocalDateTime.now().plusDays(i), "Hall " + i, 100, "Workshop", college);
+                event.setIsActive(true);
+                event.setCurrentRegistrations(0);
+                events.add(eventRepository.save(event));
+                eventStatisticsRepository.save(new EventStatistics(event.getId()));
+            }
+            
+            for (int i = 1; i <= SEED_STUDENTS; i++) {
+                Student student = studentRepository.save(new Student("QP" + i, "First" + i, "Last" + i,
+                        "student" + i + "@example.com", String.format("99%08d", i), "CSE", "2nd", college));
+                Event event = events.get(i % SEED_EVENTS);
+                registrationRepository.save(new Registration(student, event));
+                attendanceRepository.save(new Attendance(student, event));
+                feedbackRepository.save(new Feedback(student, event, 1 + i % 5, "Seeded"));
+                waitlistEntryRepository.save(new WaitlistEntry(student, events.get((i + 1) % SEED_EVENTS), (long) i));
+            }
+        });
+    }
+    
+    @Test
+    void coversTheIndexedRepositories() {
+        Set<Class<?>> checked = new HashSet<>();
+        Repositories repositories = new Repositories(applicationContext);
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            if (!readQueryMethods(information).isEmpty()) {
+                checked.add(information.getRepositoryInterface());
+            }
+        }
+        assertThat(checked).containsAll(INDEXED_REPOSITORIES);
+    }
+    
+    @TestFactory
+    Stream<DynamicContainer> repositoryQueriesUseIndexes() {
+        Repositories repositories = new Repositories(applicationContext);
+        List<DynamicContainer> containers = new ArrayList<>();
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            String repositoryName = information.getRepositoryInterface().getSimpleName();
+            Stream<DynamicTest> tests = readQueryMethods(information).stream()
+                    .map(method -> DynamicTest.dynamicTest(method.getName(),
+                            () -> checkPlan(repositoryName + "." + method.getName(), repository, method)));
+            containers.add(DynamicContainer.dynamicContainer(repositoryName, tests));
+        }
+        return containers.stream();
+    }
+    
+    private void checkPlan(String name, Object repository, Method method) {
+        List<String> statements = capture(repository, method);
+        assertThat(statements).as("SQL sent by %s", name).isNotEmpty();
+        
+        List<String> fullScans = new ArrayList<>();
+        for (String sql : statements) {
+            for (String step : explain(sql)) {
+                if (isFullScan(step)) {
+                    fullScans.add(step + " in " + sql);
+                }
+            }
+        }
+        if (!fullScans.isEmpty() && !FULL_SCAN_ALLOWED.contains(name)) {
+            fail(name + " reads a whole table:\n  " + String.join("\n  ", fullScans));
+        }
+    }
+    
+    private static List<Method> readQueryMethods(RepositoryInformation information) {
+        List<Method> methods = new ArrayList<>();
+        for (Method method : information.getQueryMethods()) {
+            if (!method.isAnnotationPresent(Modifying.class)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+    
+    private List<String> capture(Object repository, Method method) {
+        // A cached result would skip the SQL altogether
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        
+        Object[] arguments = placeholderArguments(method);
+        List<String> statements;
+        sqlCapture.start();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                try {
+                    Object result = method.invoke(repository, arguments);
+                    // Stream queries only run once read from, and hold their cursor until closed
+                    if (result instanceof Stream<?> stream) {
+                        try (stream) {
+                            stream.findFirst();
+                        }
+                    }
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    // Placeholder values may not match any row (or may match too many); the SQL was still sent
+                }
+            });
+        } finally {
+            statements = sqlCapture.stop();
+        }
+        return statements;
+    }
+    
+    private List<String> explain(String sql) {
+        // Parameters only matter to the plan through their position, so bind them all to null
+        Object[] parameters = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        return jdbcTemplate.query("EXPLAIN QUERY PLAN " + stripComment(sql),
+                (resultSet, rowNum) -> resultSet.getString("detail"), parameters);
+    }
+    
+    // hibernate.use_sql_comments prefixes the HQL, whose text would break the parameter count
+    private static String stripComment(String sql) {
+        String trimmed = sql.strip();
+        if (trimmed.startsWith("/*")) {
+            return trimmed.substring(trimmed.indexOf("*/") + 2);
+        }
+        return trimmed;
+    }
+    
+    // "SCAN e" and "SCAN e USING COVERING INDEX ..." both read every row; "SEARCH" steps use an index
+    private static boolean isFullScan(String step) {
+        return step.startsWith("SCAN ") && !step.equals("SCAN CONSTANT ROW");
+    }
+    
+    private static Object[] placeholderArguments(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            arguments[i] = placeholder(types[i]);
+        }
+        return arguments;
+    }
+    
+    private static Object placeholder(Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return true;
+        }
+        if (type == String.class) {
+            return "placeholder";
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(1L, 2L);
+        }
+        if (type == Pageable.class) {
+            return PageRequest.of(0, 20);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        throw new IllegalStateException("No placeholder value for parameter type " + type.getName());
+    }
+    
+    @TestConfiguration
+    static class SqlCaptureConfig {
+        
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+        
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.acharya.collegeeventmanagement.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Records the SQL Hibernate prepares on the current thread between start() and stop(); used by QueryPlanTest
+class SqlCapture implements StatementInspector {
+    
+    private final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+    
+    void start() {
+        captured.set(new ArrayList<>());
+    }
+    
+    List<String> stop() {
+        List<String> statements = captured.get();
+        captured.remove();
+        return statements == null ? List.of() : statements;
+    }
+    
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = captured.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,121 @@
+package com.acharya.collegeeventmanagement.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Per-request cost of turning a bearer token into an authenticated user, token handling only. "before" is what
+// JwtAuthenticationFilter used to do: extractUsername and then validateToken, which parsed and verified the token
+// three times, each time building a new key and parser. "afterFirstRequest" is a token JwtUtil has not seen yet
+// (one verification with the shared parser); "after" is every later request with the same token.
+// The user lookup the filter used to do per request is not part of this benchmark.
+// Run with: mvn test -Pbenchmark -Dtest=JwtAuthBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthBenchmark {
+    
+    private static final String SECRET = "mySecretKey123456789012345678901234567890";
+    
+    // Far more distinct tokens than the claims cache holds, so afterFirstRequest always misses
+    private static final int FIRST_SEEN_TOKENS = 4096;
+    
+    private JwtUtil jwtUtil;
+    
+    private JwtUtil coldJwtUtil;
+    
+    private String token;
+    
+    private String[] firstSeenTokens;
+    
+    private int nextFirstSeen;
+    
+    @Setup
+    public void setUp() {
+        jwtUtil = jwtUtil(10_000);
+        coldJwtUtil = jwtUtil(16);
+        token = jwtUtil.generateToken("admin", "ADMIN");
+        firstSeenTokens = new String[FIRST_SEEN_TOKENS];
+        for (int i = 0; i < FIRST_SEEN_TOKENS; i++) {
+            firstSeenTokens[i] = jwtUtil.generateToken("student" + i, "STUDENT");
+        }
+    }
+    
+    @Benchmark
+    public boolean before() {
+        String username = legacyClaims(token).getSubject();
+        return legacyClaims(token).getSubject().equals(username)
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+    
+    @Benchmark
+    public Claims afterFirstRequest() {
+        String next = firstSeenTokens[nextFirstSeen++ & (FIRST_SEEN_TOKENS - 1)];
+        return coldJwtUtil.extractAllClaims(next);
+    }
+    
+    @Benchmark
+    public Claims after() {
+        return jwtUtil.extractAllClaims(token);
+    }
+    
+    @Test
+    void jwtAuthentication() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(JwtAuthBenchmark.class.getName())
+                .build()).run();
+        Map<String, Double> nanosPerRequest = results.stream().collect(Collectors.toMap(
+                result -> result.getParams().getBenchmark().substring(JwtAuthBenchmark.class.getName().length() + 1),
+                result -> result.getPrimaryResult().getScore()));
+        
+        nanosPerRequest.forEach((benchmark, nanos) ->
+                System.out.printf("%-17s %,10.0f ns per request%n", benchmark, nanos));
+        assertThat(nanosPerRequest.get("afterFirstRequest")).isLessThan(nanosPerRequest.get("before"));
+        assertThat(nanosPerRequest.get("after")).isLessThan(nanosPerRequest.get("afterFirstRequest"));
+    }
+    
+    // The parse JwtUtil did on every call before the key and parser were shared
+    private static Claims legacyClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+    
+    private static JwtUtil jwtUtil(long claimsCacheMaxSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", claimsCacheMaxSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
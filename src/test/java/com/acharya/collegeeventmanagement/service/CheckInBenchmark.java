@@ -0,0 +1,135 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.dto.CheckInResult;
+import com.acharya.collegeeventmanagement.entity.College;
+import com.acharya.collegeeventmanagement.entity.Event;
+import com.acharya.collegeeventmanagement.repository.CollegeRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Kiosk check-in throughput and latency, measured in-process so the HTTP stack and the load generator do not
+// compete with the service for CPU. KIOSKS threads scan every seeded student into a fresh event as fast as
+// they can; the first pass only warms up the JIT. Target: several thousand check-ins/s with p99 under 10 ms.
+// Run with: mvn test -Pbenchmark -Dtest=CheckInBenchmark
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.acharya=WARN"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CheckInBenchmark {
+    
+    private static final int STUDENTS = 20_000;
+    
+    private static final int KIOSKS = 50;
+    
+    @Autowired
+    private CheckInService checkInService;
+    
+    @Autowired
+    private StudentImportService studentImportService;
+    
+    @Autowired
+    private EventService eventService;
+    
+    @Autowired
+    private CollegeRepository collegeRepository;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private College college;
+    
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        try {
+            Path directory = Files.createTempDirectory("check-in-benchmark");
+            registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + directory.resolve("events.db"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @BeforeAll
+    void seed() throws IOException {
+        college = collegeRepository.save(new College("Benchmark College", "1 Main Road", "Bengaluru", "Karnataka", "India"));
+        
+        StringBuilder csv = new StringBuilder("studentId,firstName,lastName,email,phoneNumber,department,yearOfStudy,collegeId\n");
+        for (int i = 1; i <= STUDENTS; i++) {
+            csv.append(rollNumber(i)).append(",First,Last,student").append(i).append("@example.com,9876543210,CSE,2nd,")
+                    .append(college.getId()).append('\n');
+        }
+        studentImportService.importStudents(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    @Test
+    void checkIn() throws InterruptedException {
+        run("warm-up");
+        run("measured");
+    }
+    
+    private void run(String label) throws InterruptedException {
+        Event event = new Event(label + " event", "Check-in benchmark", LocalDateTime.now().plusDays(1), "Main Hall",
+                STUDENTS, "Conference", college);
+        Long eventId = eventService.createEvent(event).id();
+        
+        DistributionSummary batchSizes = meterRegistry.get("write.pipeline.batch.size").summary();
+        long batchesBefore = batchSizes.count();
+        
+        long[] latencies = new long[STUDENTS];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger checkedIn = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService kiosks = Executors.newFixedThreadPool(KIOSKS)) {
+            for (int k = 0; k < KIOSKS; k++) {
+                kiosks.execute(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < STUDENTS) {
+                        long scanStart = System.nanoTime();
+                        CheckInResult result = checkInService.checkIn(eventId, rollNumber(i + 1));
+                        latencies[i] = System.nanoTime() - scanStart;
+                        if (result.status() == CheckInResult.Status.CHECKED_IN) {
+                            checkedIn.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        
+        Arrays.sort(latencies);
+        System.out.printf("%s: %d check-ins by %d kiosks in %.2f s = %.0f/s, p50 %.2f ms, p99 %.2f ms, max %.2f ms, %d pipeline writes%n",
+                label, STUDENTS, KIOSKS, seconds, STUDENTS / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[STUDENTS - 1] / 1e6,
+                batchSizes.count() - batchesBefore);
+        assertThat(checkedIn.get()).isEqualTo(STUDENTS);
+    }
+    
+    private static double percentile(long[] sorted, double fraction) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(sorted.length * fraction))] / 1e6;
+    }
+    
+    private static String rollNumber(int i) {
+        return String.format("BM%05d", i);
+    }
+}
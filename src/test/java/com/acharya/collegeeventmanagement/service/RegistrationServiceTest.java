@@ -0,0 +1,234 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.dto.BulkRegistrationResult;
+import com.acharya.collegeeventmanagement.entity.College;
+import com.acharya.collegeeventmanagement.entity.Event;
+import com.acharya.collegeeventmanagement.exception.BadRequestException;
+import com.acharya.collegeeventmanagement.repository.CollegeRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Seat accounting and waitlist promotion under concurrent callers, against a real SQLite database. Each test
+// creates its own event; the counts are checked in the tables, not only in what the service returned.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.acharya=WARN"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RegistrationServiceTest {
+    
+    private static final int STUDENTS = 60;
+    
+    private static final int CALLERS = 16;
+    
+    @Autowired
+    private RegistrationService registrationService;
+    
+    @Autowired
+    private EventService eventService;
+    
+    @Autowired
+    private StudentImportService studentImportService;
+    
+    @Autowired
+    private CollegeRepository collegeRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private College college;
+    
+    private List<Long> studentIds;
+    
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        try {
+            Path directory = Files.createTempDirectory("registration-test");
+            registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + directory.resolve("events.db"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @BeforeAll
+    void seed() throws IOException {
+        college = collegeRepository.save(new College("Registration College", "1 Main Road", "Bengaluru", "Karnataka", "India"));
+        
+        StringBuilder csv = new StringBuilder("studentId,firstName,lastName,email,phoneNumber,department,yearOfStudy,collegeId\n");
+        for (int i = 1; i <= STUDENTS; i++) {
+            csv.append(String.format("RG%03d", i)).append(",First,Last,registration").append(i)
+                    .append("@example.com,9876543210,CSE,2nd,").append(college.getId()).append('\n');
+        }
+        studentImportService.importStudents(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+        studentIds = jdbcTemplate.queryForList("SELECT id FROM students WHERE student_id LIKE 'RG%' ORDER BY student_id", Long.class);
+        assertThat(studentIds).hasSize(STUDENTS);
+    }
+    
+    @Test
+    void concurrentRegistrationsNeverExceedCapacity() throws Exception {
+        int capacity = 15;
+        Long eventId = createEvent("Capacity", capacity);
+        
+        // Single registrations for the first 40 students race two bulk calls for the last 20
+        List<Callable<Integer>> calls = new ArrayList<>();
+        for (Long studentId : studentIds.subList(0, 40)) {
+            calls.add(() -> {
+                try {
+                    registrationService.registerStudentToEvent(studentId, eventId);
+                    return 1;
+                } catch (BadRequestException e) {
+                    assertThat(e.getMessage()).contains("full capacity");
+                    return 0;
+                }
+            });
+        }
+        for (int from = 40; from < STUDENTS; from += 10) {
+            List<Long> bulk = studentIds.subList(from, from + 10);
+            calls.add(() -> {
+                BulkRegistrationResult result = registrationService.registerStudentsToEvent(eventId, bulk);
+                return (int) result.outcomes().stream()
+                        .filter(outcome -> outcome.status() == BulkRegistrationResult.Status.REGISTERED)
+                        .count();
+            });
+        }
+        
+        int registered = runConcurrently(calls).stream().mapToInt(Integer::intValue).sum();
+        
+        assertThat(registered).isEqualTo(capacity);
+        assertThat(registrationCount(eventId)).isEqualTo(capacity);
+        assertThat(currentRegistrations(eventId)).isEqualTo(capacity);
+        assertThat(registrationService.getRegistrationCountByEventId(eventId)).isEqualTo(capacity);
+    }
+    
+    @Test
+    void cancellationPromotesTheHeadOfTheWaitlistExactlyOnce() throws Exception {
+        int capacity = 4;
+        Long eventId = createEvent("Promotion", capacity);
+        List<Long> registered = studentIds.subList(0, capacity);
+        List<Long> waiting = studentIds.subList(capacity, capacity + 6);
+        for (Long studentId : registered) {
+            registrationService.registerStudentToEvent(studentId, eventId);
+        }
+        for (Long studentId : waiting) {
+            registrationService.joinWaitlist(studentId, eventId);
+        }
+        
+        // Two seats freed at the same moment go to the first two in the queue, one each
+        List<Callable<Integer>> cancels = new ArrayList<>();
+        for (Long studentId : registered.subList(0, 2)) {
+            cancels.add(() -> {
+                registrationService.cancelRegistration(studentId, eventId);
+                return 1;
+            });
+        }
+        runConcurrently(cancels);
+        
+        assertThat(registeredStudents(eventId)).containsExactlyInAnyOrder(
+                registered.get(2), registered.get(3), waiting.get(0), waiting.get(1));
+        assertThat(waitingStudents(eventId)).containsExactlyElementsOf(waiting.subList(2, waiting.size()));
+        assertThat(currentRegistrations(eventId)).isEqualTo(capacity);
+        assertThat(registrationService.getRegistrationCountByEventId(eventId)).isEqualTo(capacity);
+        
+        // Cancelling a registration that does not exist frees no seat, so nobody else moves up
+        assertThatThrownBy(() -> registrationService.cancelRegistration(waiting.get(2), eventId))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(waitingStudents(eventId)).containsExactlyElementsOf(waiting.subList(2, waiting.size()));
+    }
+    
+    @Test
+    void queueNumbersStayMonotonic() throws Exception {
+        int capacity = 2;
+        Long eventId = createEvent("Queue", capacity);
+        for (Long studentId : studentIds.subList(0, capacity)) {
+            registrationService.registerStudentToEvent(studentId, eventId);
+        }
+        
+        List<Long> waiting = studentIds.subList(capacity, capacity + 12);
+        List<Callable<Integer>> joins = new ArrayList<>();
+        for (Long studentId : waiting) {
+            joins.add(() -> {
+                registrationService.joinWaitlist(studentId, eventId);
+                return 1;
+            });
+        }
+        runConcurrently(joins);
+        
+        List<Long> queueNumbers = queueNumbers(eventId);
+        assertThat(queueNumbers).hasSize(waiting.size()).doesNotHaveDuplicates().isSorted();
+        assertThat(queueNumbers.get(0)).isEqualTo(1L);
+        assertThat(queueNumbers.get(queueNumbers.size() - 1)).isEqualTo(waiting.size());
+        
+        // Promoting the head does not free its number for the next student to join
+        registrationService.cancelRegistration(studentIds.get(0), eventId);
+        Long newcomer = studentIds.get(capacity + waiting.size());
+        registrationService.joinWaitlist(newcomer, eventId);
+        
+        List<Long> afterPromotion = queueNumbers(eventId);
+        assertThat(afterPromotion).doesNotContain(1L).isSorted().doesNotHaveDuplicates();
+        assertThat(afterPromotion.get(afterPromotion.size() - 1)).isEqualTo(waiting.size() + 1L);
+        assertThat(waitingStudents(eventId).get(waitingStudents(eventId).size() - 1)).isEqualTo(newcomer);
+        assertThat(registrationService.getWaitlistPosition(newcomer, eventId))
+                .hasValueSatisfying(position -> assertThat(position.position()).isEqualTo((long) waiting.size()));
+    }
+    
+    private Long createEvent(String name, int capacity) {
+        Event event = new Event(name + " event", "Registration test", LocalDateTime.now().plusDays(1), "Main Hall",
+                capacity, "Conference", college);
+        return eventService.createEvent(event).id();
+    }
+    
+    private static <T> List<T> runConcurrently(List<Callable<T>> calls) throws Exception {
+        List<T> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newFixedThreadPool(CALLERS)) {
+            for (Future<T> future : callers.invokeAll(calls)) {
+                results.add(future.get());
+            }
+        }
+        return results;
+    }
+    
+    private int registrationCount(Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM registrations WHERE event_id = ?", Integer.class, eventId);
+    }
+    
+    private int currentRegistrations(Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT current_registrations FROM events WHERE id = ?", Integer.class, eventId);
+    }
+    
+    private List<Long> registeredStudents(Long eventId) {
+        return jdbcTemplate.queryForList("SELECT student_id FROM registrations WHERE event_id = ?", Long.class, eventId);
+    }
+    
+    private List<Long> waitingStudents(Long eventId) {
+        return jdbcTemplate.queryForList("SELECT student_id FROM waitlist_entries WHERE event_id = ? ORDER BY queue_number",
+                Long.class, eventId);
+    }
+    
+    private List<Long> queueNumbers(Long eventId) {
+        return jdbcTemplate.queryForList("SELECT queue_number FROM waitlist_entries WHERE event_id = ? ORDER BY id",
+                Long.class, eventId);
+    }
+}
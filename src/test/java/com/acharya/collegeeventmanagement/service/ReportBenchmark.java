@@ -0,0 +1,126 @@
+package com.acharya.collegeeventmanagement.service;
+
+import com.acharya.collegeeventmanagement.dto.EventPopularityReport;
+import com.acharya.collegeeventmanagement.entity.College;
+import com.acharya.collegeeventmanagement.repository.CollegeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Event popularity report cost as the number of events grows. Events and their statistics rows are inserted
+// straight into the database in steps; at each step the report is run repeatedly and the SQL statements Hibernate
+// prepares per report are counted. The report used to run seven queries per event; it must stay at one.
+// Run with: mvn test -Pbenchmark -Dtest=ReportBenchmark
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "logging.level.com.acharya=WARN"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReportBenchmark {
+    
+    private static final int[] EVENT_COUNTS = {100, 1_000, 5_000, 10_000};
+    
+    private static final int RUNS = 50;
+    
+    @Autowired
+    private ReportService reportService;
+    
+    @Autowired
+    private CollegeRepository collegeRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private College college;
+    
+    private Statistics statistics;
+    
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        try {
+            Path directory = Files.createTempDirectory("report-benchmark");
+            registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + directory.resolve("events.db"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @BeforeAll
+    void setUp() {
+        college = collegeRepository.save(new College("Benchmark College", "1 Main Road", "Bengaluru", "Karnataka", "India"));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    @Test
+    void eventPopularityReport() {
+        int seeded = 0;
+        for (int events : EVENT_COUNTS) {
+            seedEvents(seeded, events);
+            seeded = events;
+            
+            for (int i = 0; i < RUNS; i++) {
+                reportService.getEventPopularityReport();
+            }
+            
+            long[] latencies = new long[RUNS];
+            statistics.clear();
+            for (int i = 0; i < RUNS; i++) {
+                long start = System.nanoTime();
+                List<EventPopularityReport> report = reportService.getEventPopularityReport();
+                latencies[i] = System.nanoTime() - start;
+                assertThat(report).hasSize(events);
+            }
+            double statementsPerReport = (double) statistics.getPrepareStatementCount() / RUNS;
+            
+            Arrays.sort(latencies);
+            System.out.printf("%,6d events: %.1f statements per report, p50 %.2f ms, p99 %.2f ms%n",
+                    events, statementsPerReport, latencies[RUNS / 2] / 1e6, latencies[RUNS * 99 / 100] / 1e6);
+            assertThat(statementsPerReport).isEqualTo(1.0);
+        }
+    }
+    
+    // Events from + 1 to until, each with a statistics row
+    private void seedEvents(int from, int until) {
+        long eventDate = System.currentTimeMillis() + 86_400_000L;
+        List<Object[]> events = IntStream.rangeClosed(from + 1, until)
+                .mapToObj(i -> new Object[] {i, "Event " + i, "Benchmark event", eventDate, "Main Hall", 100, i % 100, "Conference", college.getId()})
+                .toList();
+        List<Object[]> eventStatistics = IntStream.rangeClosed(from + 1, until)
+                .mapToObj(i -> new Object[] {i, i % 100, i % 80, i % 50, (i % 50) * 4L})
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate("INSERT INTO events (id, name, description, event_date, location, max_capacity, " +
+                    "current_registrations, event_type, is_active, college_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 1, ?)", events);
+            jdbcTemplate.batchUpdate("INSERT INTO event_statistics (event_id, registration_count, present_count, " +
+                    "feedback_count, rating_sum, one_star_count, two_star_count, three_star_count, four_star_count, " +
+                    "five_star_count) VALUES (?, ?, ?, ?, ?, 0, 0, 0, 0, 0)", eventStatistics);
+        });
+    }
+}
@@ -0,0 +1,180 @@
+package com.acharya.collegeeventmanagement.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Writes are plain college inserts, so the unique name index gives a real constraint failure. The pipeline
+// lingers long enough here that writes submitted back to back always share one batch.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "write-pipeline.max-delay-ms=200"
+})
+class WritePipelineTest {
+    
+    @Autowired
+    private WritePipeline writePipeline;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private FailingWrite failingWrite;
+    
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        try {
+            Path directory = Files.createTempDirectory("write-pipeline-test");
+            registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + directory.resolve("events.db"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Test
+    void failedWriteRollsBackOnlyItselfAndTheRestOfTheBatchCommits() throws Exception {
+        insertCollege("Savepoint Taken");
+        long batchesBefore = batchCount();
+        
+        CompletableFuture<Integer> first = writePipeline.submit(() -> insertCollege("Savepoint First"));
+        CompletableFuture<Integer> failing = writePipeline.submit(() -> {
+            insertCollege("Savepoint Partial");
+            return insertCollege("Savepoint Taken");
+        });
+        CompletableFuture<Integer> last = writePipeline.submit(() -> insertCollege("Savepoint Last"));
+        
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(last.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThatThrownBy(() -> failing.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DataAccessException.class)
+                .hasMessageContaining("UNIQUE constraint failed: colleges.name");
+        
+        assertThat(batchCount() - batchesBefore).isEqualTo(1);
+        assertThat(collegesNamed("Savepoint %")).containsExactlyInAnyOrder("Savepoint Taken", "Savepoint First", "Savepoint Last");
+    }
+    
+    @Test
+    void rollbackOnlyBatchIsRetriedOneWriteAtATime() throws Exception {
+        AtomicInteger firstRuns = new AtomicInteger();
+        
+        CompletableFuture<Integer> first = writePipeline.submit(() -> {
+            firstRuns.incrementAndGet();
+            return insertCollege("Retry First");
+        });
+        CompletableFuture<Integer> failing = writePipeline.submit(() -> {
+            failingWrite.insertAndFail("Retry Failing");
+            return 1;
+        });
+        CompletableFuture<Integer> last = writePipeline.submit(() -> insertCollege("Retry Last"));
+        
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(last.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThatThrownBy(() -> failing.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Retry Failing");
+        
+        // Once in the abandoned batch, once on its own
+        assertThat(firstRuns.get()).isEqualTo(2);
+        assertThat(collegesNamed("Retry %")).containsExactlyInAnyOrder("Retry First", "Retry Last");
+    }
+    
+    @Test
+    void executeRunsInlineInsideAnExistingWriteTransaction() {
+        AtomicReference<Thread> writeThread = new AtomicReference<>();
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            writePipeline.execute(() -> {
+                writeThread.set(Thread.currentThread());
+                return insertCollege("Inline Rolled Back");
+            });
+            status.setRollbackOnly();
+        });
+        
+        // Same thread and same transaction: rolling the caller back took the write with it
+        assertThat(writeThread.get()).isSameAs(Thread.currentThread());
+        assertThat(collegesNamed("Inline %")).isEmpty();
+    }
+    
+    @Test
+    void executeWithoutATransactionGoesThroughThePipeline() {
+        AtomicReference<String> writeThread = new AtomicReference<>();
+        
+        writePipeline.execute(() -> {
+            writeThread.set(Thread.currentThread().getName());
+            return insertCollege("Pipelined");
+        });
+        
+        assertThat(writeThread.get()).isEqualTo("write-pipeline");
+        assertThat(collegesNamed("Pipelined")).containsExactly("Pipelined");
+    }
+    
+    private int insertCollege(String name) {
+        return jdbcTemplate.update("INSERT INTO colleges (name, address, city, state, country) VALUES (?, '1 Main Road', 'Bengaluru', 'Karnataka', 'India')", name);
+    }
+    
+    private List<String> collegesNamed(String pattern) {
+        return jdbcTemplate.queryForList("SELECT name FROM colleges WHERE name LIKE ?", String.class, pattern);
+    }
+    
+    private long batchCount() {
+        DistributionSummary batchSizes = meterRegistry.get("write.pipeline.batch.size").summary();
+        return batchSizes.count();
+    }
+    
+    @TestConfiguration
+    static class FailingWriteConfiguration {
+        
+        @Bean
+        FailingWrite failingWrite(JdbcTemplate jdbcTemplate) {
+            return new FailingWrite(jdbcTemplate);
+        }
+    }
+    
+    // A transactional service method that fails while joined to the batch transaction marks all of it rollback-only
+    static class FailingWrite {
+        
+        private final JdbcTemplate jdbcTemplate;
+        
+        FailingWrite(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+        
+        @Transactional
+        public void insertAndFail(String name) {
+            jdbcTemplate.update("INSERT INTO colleges (name, address, city, state, country) VALUES (?, '1 Main Road', 'Bengaluru', 'Karnataka', 'India')", name);
+            throw new IllegalStateException("Could not finish writing " + name);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.acharya.collegeeventmanagement.web;
+
+import com.acharya.collegeeventmanagement.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Requests go through the real security chain with a token for the seeded admin user, as the filter scopes keys
+// by the authenticated user. ProbeController counts how often a request actually reached a controller.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.acharya=WARN"
+})
+@AutoConfigureMockMvc
+class IdempotencyFilterTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private JwtUtil jwtUtil;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ProbeController probeController;
+    
+    private String key;
+    
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        try {
+            Path directory = Files.createTempDirectory("idempotency-test");
+            registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + directory.resolve("events.db"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @BeforeEach
+    void newKey() {
+        key = UUID.randomUUID().toString();
+        probeController.reset();
+    }
+    
+    @Test
+    void retryGetsTheStoredResponseWithoutRunningAgain() throws Exception {
+        MvcResult first = mockMvc.perform(createCollege("Replay College"))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn();
+        
+        // Had it run again, the duplicate name would have been a 400
+        MvcResult retry = mockMvc.perform(createCollege("Replay College"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn();
+        
+        assertThat(retry.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(collegesNamed("Replay College")).isEqualTo(1);
+    }
+    
+    @Test
+    void reusedKeyWithADifferentBodyIsRejected() throws Exception {
+        mockMvc.perform(createCollege("Original College"))
+                .andExpect(status().isCreated());
+        
+        mockMvc.perform(createCollege("Different College"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        
+        assertThat(collegesNamed("Different College")).isZero();
+    }
+    
+    @Test
+    void reusedKeyWithADifferentQueryIsRejected() throws Exception {
+        mockMvc.perform(probe("/api/idempotency-probe/respond?status=201"))
+                .andExpect(status().isCreated());
+        
+        mockMvc.perform(probe("/api/idempotency-probe/respond?status=200"))
+                .andExpect(status().isUnprocessableEntity());
+        assertThat(probeController.calls()).isEqualTo(1);
+    }
+    
+    @Test
+    void duplicateArrivingWhileTheFirstRunsWaitsForItsResponse() throws Exception {
+        CompletableFuture<MvcResult> first = CompletableFuture.supplyAsync(() -> perform(probe("/api/idempotency-probe/slow")));
+        assertThat(probeController.entered.await(10, TimeUnit.SECONDS)).isTrue();
+        
+        CompletableFuture<MvcResult> duplicate = CompletableFuture.supplyAsync(() -> perform(probe("/api/idempotency-probe/slow")));
+        // Give the duplicate time to find the in-flight request before the first one is let through
+        Thread.sleep(300);
+        assertThat(duplicate).isNotDone();
+        probeController.release.countDown();
+        
+        MvcResult firstResult = first.get(10, TimeUnit.SECONDS);
+        MvcResult duplicateResult = duplicate.get(10, TimeUnit.SECONDS);
+        assertThat(duplicateResult.getResponse().getStatus()).isEqualTo(firstResult.getResponse().getStatus());
+        assertThat(duplicateResult.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(duplicateResult.getResponse().getContentAsString()).isEqualTo(firstResult.getResponse().getContentAsString());
+        assertThat(probeController.calls()).isEqualTo(1);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {500, 503, 429})
+    void transientFailuresAreNotStored(int failure) throws Exception {
+        mockMvc.perform(probe("/api/idempotency-probe/respond?status=" + failure + "&then=201"))
+                .andExpect(status().is(failure));
+        
+        mockMvc.perform(probe("/api/idempotency-probe/respond?status=" + failure + "&then=201"))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        
+        mockMvc.perform(probe("/api/idempotency-probe/respond?status=" + failure + "&then=201"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+        assertThat(probeController.calls()).isEqualTo(2);
+    }
+    
+    private MockHttpServletRequestBuilder createCollege(String name) {
+        return post("/api/colleges")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken("admin", "ADMIN"))
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"" + name + "\",\"address\":\"1 Main Road\",\"city\":\"Bengaluru\"," +
+                        "\"state\":\"Karnataka\",\"country\":\"India\"}");
+    }
+    
+    private MockHttpServletRequestBuilder probe(String path) {
+        return post(path)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken("admin", "ADMIN"))
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+    }
+    
+    private MvcResult perform(MockHttpServletRequestBuilder request) {
+        try {
+            return mockMvc.perform(request).andReturn();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private int collegesNamed(String name) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM colleges WHERE name = ?", Integer.class, name);
+    }
+    
+    @TestConfiguration
+    static class ProbeConfiguration {
+        
+        @Bean
+        ProbeController probeController() {
+            return new ProbeController();
+        }
+    }
+    
+    @RestController
+    static class ProbeController {
+        
+        private final AtomicInteger calls = new AtomicInteger();
+        
+        private volatile CountDownLatch entered;
+        
+        private volatile CountDownLatch release;
+        
+        void reset() {
+            calls.set(0);
+            entered = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+        }
+        
+        int calls() {
+            return calls.get();
+        }
+        
+        // Answers status on the first call and then (if given) on every later one
+        @PostMapping("/api/idempotency-probe/respond")
+        ResponseEntity<Map<String, Integer>> respond(@RequestParam int status, @RequestParam(required = false) Integer then) {
+            int call = calls.incrementAndGet();
+            int answer = call > 1 && then != null ? then : status;
+            return ResponseEntity.status(answer).body(Map.of("call", call));
+        }
+        
+        @PostMapping("/api/idempotency-probe/slow")
+        ResponseEntity<Map<String, Integer>> slow() throws InterruptedException {
+            int call = calls.incrementAndGet();
+            entered.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return ResponseEntity.ok(Map.of("call", call));
+        }
+    }
+}